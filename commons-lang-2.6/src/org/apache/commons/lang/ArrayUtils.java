@@ -5,7 +5,14 @@ import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.apache.commons.lang.builder.ToStringBuilder;
 import org.apache.commons.lang.builder.ToStringStyle;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Array;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -104,6 +111,27 @@ public class ArrayUtils {
      */
     public static final int INDEX_NOT_FOUND = -1;
 
+    /**
+     * 常量，appendTo()中间缓冲区的批量写出长度
+     */
+    private static final int APPEND_CHUNK_SIZE = 1024;
+
+    /**
+     * 把byte[]中任意位置的8个字节当作一个小端序long读取的视图，用于indexOf(byte[])和lastIndexOf(byte[])的SWAR（寄存器内SIMD）扫描。
+     * 普通模式的get()允许非对齐访问，JIT会把它编译成一条8字节的load指令
+     */
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * 常量，每个字节都是0x01的long
+     */
+    private static final long LOW_BITS = 0x0101010101010101L;
+
+    /**
+     * 常量，每个字节都是0x7F的long
+     */
+    private static final long LOW_7_BITS = 0x7F7F7F7F7F7F7F7FL;
+
     /**
      * 构造方法，但该类中的方法都是静态方法，所以不应该创建该类的实例对象。
      */
@@ -139,9 +167,371 @@ public class ArrayUtils {
             return stringIfNull;
         }
         // 如果传入的数组不为null，则将数组输出为字符串
+        // 快速路径：一维数组直接拼接，不创建ToStringBuilder，输出格式与ToStringStyle.SIMPLE_STYLE完全相同
+        StringBuffer buffer = new StringBuffer(32);
+        if (appendSimpleArray(buffer, array)) {
+            return buffer.toString();
+        }
+        // 多维数组或非数组对象仍然交给ToStringBuilder处理，因为它还需要检测循环引用
         return new ToStringBuilder(array, ToStringStyle.SIMPLE_STYLE).append(array).toString();
     }
 
+    /**
+     * <p>按照{@link ToStringStyle#SIMPLE_STYLE}的格式将一维数组追加到buffer中，例如：{1,2,3}，null元素输出为"&lt;null&gt;"。</p>
+     * <p>只处理基本数据类型数组和不包含数组元素的Object数组，其他情况返回false，由调用者交给ToStringBuilder处理。</p>
+     *
+     * @param buffer 追加到的StringBuffer
+     * @param array  待输出的对象，不能为null
+     * @return 如果已经处理则返回true，否则返回false，此时buffer中可能已经有部分内容
+     */
+    private static boolean appendSimpleArray(StringBuffer buffer, Object array) {
+        if (array instanceof Object[]) {
+            Object[] objects = (Object[]) array;
+            buffer.append('{');
+            for (int i = 0; i < objects.length; i++) {
+                Object item = objects[i];
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                if (item == null) {
+                    buffer.append("<null>");
+                } else if (item.getClass().isArray()) {
+                    // 多维数组，需要ToStringBuilder的循环引用检测
+                    return false;
+                } else {
+                    buffer.append(item);
+                }
+            }
+            buffer.append('}');
+            return true;
+        }
+        int length;
+        if (array instanceof long[]) {
+            long[] a = (long[]) array;
+            length = a.length;
+            buffer.append('{');
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append(a[i]);
+            }
+        } else if (array instanceof int[]) {
+            int[] a = (int[]) array;
+            length = a.length;
+            buffer.append('{');
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append(a[i]);
+            }
+        } else if (array instanceof short[]) {
+            short[] a = (short[]) array;
+            length = a.length;
+            buffer.append('{');
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append(a[i]);
+            }
+        } else if (array instanceof byte[]) {
+            byte[] a = (byte[]) array;
+            length = a.length;
+            buffer.append('{');
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append(a[i]);
+            }
+        } else if (array instanceof char[]) {
+            char[] a = (char[]) array;
+            length = a.length;
+            buffer.append('{');
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append(a[i]);
+            }
+        } else if (array instanceof double[]) {
+            double[] a = (double[]) array;
+            length = a.length;
+            buffer.append('{');
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append(a[i]);
+            }
+        } else if (array instanceof float[]) {
+            float[] a = (float[]) array;
+            length = a.length;
+            buffer.append('{');
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append(a[i]);
+            }
+        } else if (array instanceof boolean[]) {
+            boolean[] a = (boolean[]) array;
+            length = a.length;
+            buffer.append('{');
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append(a[i]);
+            }
+        } else {
+            // 不是数组
+            return false;
+        }
+        buffer.append('}');
+        return true;
+    }
+
+    /**
+     * <p>将数组以{@link #toString(Object)}相同的格式直接写入到out中，而不是先在内存中生成完整的字符串，适合输出很大的数组，例如输出到日志的Writer中。</p>
+     * <p>当数组元素个数超过maxElements时，只输出前maxElements个元素，后面用"..."表示省略，例如maxElements为3时输出：{1,2,3,...}。
+     * 多维数组的每一层都使用同一个maxElements限制。</p>
+     * <p>基本数据类型的元素直接追加，不会装箱。如果out是StringBuilder则直接写入；否则先写入一个小的缓冲区，每积累到一定长度后批量写出。</p>
+     * <pre>
+     *     ArrayUtils.appendTo(sb, null, 3)               = "{}"
+     *     ArrayUtils.appendTo(sb, new int[]{1, 2}, 3)    = "{1,2}"
+     *     ArrayUtils.appendTo(sb, new int[]{1, 2, 3}, 2) = "{1,2,...}"
+     *     ArrayUtils.appendTo(sb, new int[]{1, 2, 3}, 0) = "{...}"
+     * </pre>
+     *
+     * @param out         输出目标，例如StringBuilder、StringBuffer或者Writer，不能为null
+     * @param array       待输出的数组，可能为null，为null时输出"{}"
+     * @param maxElements 每一层最多输出的元素个数，不限制时可以传入Integer.MAX_VALUE
+     * @throws IOException              如果out写入时发生I/O异常
+     * @throws IllegalArgumentException 如果out为null或者maxElements小于0
+     */
+    public static void appendTo(Appendable out, Object array, int maxElements) throws IOException {
+        if (out == null) {
+            throw new IllegalArgumentException("The Appendable must not be null");
+        }
+        if (maxElements < 0) {
+            throw new IllegalArgumentException("The maximum number of elements must not be negative: " + maxElements);
+        }
+        // 与toString(Object)保持一致，null按空数组输出
+        if (array == null) {
+            out.append("{}");
+            return;
+        }
+        if (out instanceof StringBuilder) {
+            // 目标本身就是StringBuilder，直接写入，不需要中间缓冲区
+            appendArray((StringBuilder) out, null, null, array, maxElements, null, 0);
+            return;
+        }
+        StringBuilder buffer = new StringBuilder(APPEND_CHUNK_SIZE + 64);
+        // 写出到Writer时复用同一个char[]，每次写出都不再分配新数组
+        char[] scratch = out instanceof Writer ? new char[APPEND_CHUNK_SIZE] : null;
+        appendArray(buffer, out, scratch, array, maxElements, null, 0);
+        flush(buffer, out, scratch);
+    }
+
+    /**
+     * <p>{@link #appendTo(Appendable, Object, int)}的底层实现，将一个对象（通常是数组）按照SIMPLE_STYLE的格式追加到buffer中。</p>
+     *
+     * @param buffer      写入的缓冲区
+     * @param out         缓冲区写满后要写出的目标，如果为null表示buffer就是最终目标，不需要写出
+     * @param scratch     写出到Writer时使用的char[]，out不是Writer时为null
+     * @param array       待输出的对象，不能为null
+     * @param maxElements 每一层最多输出的元素个数
+     * @param parents     正在输出的外层数组，前depth个有效，用于检测数组之间的循环引用，可能为null
+     * @param depth       外层数组的个数
+     * @throws IOException 如果out写入时发生I/O异常
+     */
+    private static void appendArray(StringBuilder buffer, Appendable out, char[] scratch, Object array, int maxElements,
+                                    Object[] parents, int depth)
+            throws IOException {
+        if (!array.getClass().isArray()) {
+            buffer.append(array);
+            flushIfFull(buffer, out, scratch);
+            return;
+        }
+        int length;
+        int count;
+        buffer.append('{');
+        if (array instanceof Object[]) {
+            Object[] a = (Object[]) array;
+            length = a.length;
+            count = Math.min(length, maxElements);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                Object item = a[i];
+                if (item == null) {
+                    buffer.append("<null>");
+                } else if (item.getClass().isArray()) {
+                    if (item == array || containsIdentity(parents, depth, item)) {
+                        // 循环引用，与ToStringStyle一样只输出类名和identityHashCode
+                        buffer.append(item.getClass().getName()).append('@')
+                                .append(Integer.toHexString(System.identityHashCode(item)));
+                    } else {
+                        // 把当前数组压入外层数组栈，栈满时扩容；返回后后面的兄弟元素直接覆盖depth位置，不需要出栈
+                        if (parents == null) {
+                            parents = new Object[8];
+                        } else if (depth == parents.length) {
+                            parents = Arrays.copyOf(parents, depth << 1);
+                        }
+                        parents[depth] = array;
+                        appendArray(buffer, out, scratch, item, maxElements, parents, depth + 1);
+                    }
+                } else {
+                    buffer.append(item);
+                }
+                flushIfFull(buffer, out, scratch);
+            }
+        } else if (array instanceof long[]) {
+            long[] a = (long[]) array;
+            length = a.length;
+            count = Math.min(length, maxElements);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append(a[i]);
+                flushIfFull(buffer, out, scratch);
+            }
+        } else if (array instanceof int[]) {
+            int[] a = (int[]) array;
+            length = a.length;
+            count = Math.min(length, maxElements);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append(a[i]);
+                flushIfFull(buffer, out, scratch);
+            }
+        } else if (array instanceof short[]) {
+            short[] a = (short[]) array;
+            length = a.length;
+            count = Math.min(length, maxElements);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append(a[i]);
+                flushIfFull(buffer, out, scratch);
+            }
+        } else if (array instanceof byte[]) {
+            byte[] a = (byte[]) array;
+            length = a.length;
+            count = Math.min(length, maxElements);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append(a[i]);
+                flushIfFull(buffer, out, scratch);
+            }
+        } else if (array instanceof char[]) {
+            char[] a = (char[]) array;
+            length = a.length;
+            count = Math.min(length, maxElements);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append(a[i]);
+                flushIfFull(buffer, out, scratch);
+            }
+        } else if (array instanceof double[]) {
+            double[] a = (double[]) array;
+            length = a.length;
+            count = Math.min(length, maxElements);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append(a[i]);
+                flushIfFull(buffer, out, scratch);
+            }
+        } else if (array instanceof float[]) {
+            float[] a = (float[]) array;
+            length = a.length;
+            count = Math.min(length, maxElements);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append(a[i]);
+                flushIfFull(buffer, out, scratch);
+            }
+        } else if (array instanceof boolean[]) {
+            boolean[] a = (boolean[]) array;
+            length = a.length;
+            count = Math.min(length, maxElements);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                buffer.append(a[i]);
+                flushIfFull(buffer, out, scratch);
+            }
+        } else {
+            // 不可能出现，数组只有Object[]和八种基本数据类型数组
+            throw new IllegalStateException("Unknown array type: " + array.getClass());
+        }
+        if (length > count) {
+            // 超出的元素用"..."省略
+            buffer.append(count > 0 ? ",..." : "...");
+        }
+        buffer.append('}');
+    }
+
+    /**
+     * 判断数组的前length个元素中是否包含与指定对象是同一个对象（使用"=="比较）的元素。
+     */
+    private static boolean containsIdentity(Object[] array, int length, Object object) {
+        for (int i = 0; i < length; i++) {
+            if (array[i] == object) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 如果缓冲区中的内容已经达到批量写出的长度，则写出到out中。
+     */
+    private static void flushIfFull(StringBuilder buffer, Appendable out, char[] scratch) throws IOException {
+        if (out != null && buffer.length() >= APPEND_CHUNK_SIZE) {
+            flush(buffer, out, scratch);
+        }
+    }
+
+    /**
+     * 将缓冲区中的内容写出到out中并清空缓冲区。对于Writer通过scratch使用write(char[], int, int)，避免Writer.append()内部再生成一个String，
+     * 缓冲区比scratch长时（例如追加了一个很长的元素）分多次写出。
+     */
+    private static void flush(StringBuilder buffer, Appendable out, char[] scratch) throws IOException {
+        int length = buffer.length();
+        if (length == 0) {
+            return;
+        }
+        if (scratch != null) {
+            Writer writer = (Writer) out;
+            for (int start = 0; start < length; start += scratch.length) {
+                int end = Math.min(length, start + scratch.length);
+                buffer.getChars(start, end, scratch, 0);
+                writer.write(scratch, 0, end - start);
+            }
+        } else {
+            out.append(buffer);
+        }
+        buffer.setLength(0);
+    }
+
     /**
      * <p>获取数组的hashCode值。还可以正确处理多维原始数组。</p>
      *
@@ -149,7 +539,73 @@ public class ArrayUtils {
      * @return 给定数组的hashCode值，如果输入数组为null则返回0
      */
     public static int hashCode(Object array) {
-        return new HashCodeBuilder().append(array).toHashCode();
+        // 直接按类型分派到各个基本数据类型的循环，不创建HashCodeBuilder，计算结果与new HashCodeBuilder().append(array).toHashCode()完全相同
+        return appendHashCode(17, array);
+    }
+
+    /**
+     * <p>按照{@link HashCodeBuilder}默认的算法（初始值17，乘数37）将对象的hashCode累加到total上，多维数组会递归处理。</p>
+     *
+     * @param total  当前的累加值
+     * @param object 待累加的对象，可能为null
+     * @return 新的累加值
+     */
+    private static int appendHashCode(int total, Object object) {
+        if (object == null) {
+            return total * 37;
+        }
+        if (!object.getClass().isArray()) {
+            return total * 37 + object.hashCode();
+        }
+        if (object instanceof long[]) {
+            long[] a = (long[]) object;
+            for (int i = 0; i < a.length; i++) {
+                total = total * 37 + (int) (a[i] ^ (a[i] >> 32));
+            }
+        } else if (object instanceof int[]) {
+            int[] a = (int[]) object;
+            for (int i = 0; i < a.length; i++) {
+                total = total * 37 + a[i];
+            }
+        } else if (object instanceof short[]) {
+            short[] a = (short[]) object;
+            for (int i = 0; i < a.length; i++) {
+                total = total * 37 + a[i];
+            }
+        } else if (object instanceof char[]) {
+            char[] a = (char[]) object;
+            for (int i = 0; i < a.length; i++) {
+                total = total * 37 + a[i];
+            }
+        } else if (object instanceof byte[]) {
+            byte[] a = (byte[]) object;
+            for (int i = 0; i < a.length; i++) {
+                total = total * 37 + a[i];
+            }
+        } else if (object instanceof double[]) {
+            double[] a = (double[]) object;
+            for (int i = 0; i < a.length; i++) {
+                long bits = Double.doubleToLongBits(a[i]);
+                total = total * 37 + (int) (bits ^ (bits >> 32));
+            }
+        } else if (object instanceof float[]) {
+            float[] a = (float[]) object;
+            for (int i = 0; i < a.length; i++) {
+                total = total * 37 + Float.floatToIntBits(a[i]);
+            }
+        } else if (object instanceof boolean[]) {
+            boolean[] a = (boolean[]) object;
+            for (int i = 0; i < a.length; i++) {
+                // 注意，HashCodeBuilder中true累加的是0，false累加的是1
+                total = total * 37 + (a[i] ? 0 : 1);
+            }
+        } else {
+            Object[] a = (Object[]) object;
+            for (int i = 0; i < a.length; i++) {
+                total = appendHashCode(total, a[i]);
+            }
+        }
+        return total;
     }
 
     /**
@@ -160,7 +616,137 @@ public class ArrayUtils {
      * @return 如果数组相等则返回true
      */
     public static boolean isEquals(Object array1, Object array2) {
-        return new EqualsBuilder().append(array1, array2).isEquals();
+        // 直接按类型分派到各个基本数据类型的比较循环，不创建EqualsBuilder，比较结果与new EqualsBuilder().append(array1, array2).isEquals()完全相同
+        return isEqualsInternal(array1, array2);
+    }
+
+    /**
+     * <p>按照{@link EqualsBuilder#append(Object, Object)}的规则比较两个对象，多维数组会递归比较。</p>
+     * <p>double和float按照doubleToLongBits()和floatToIntBits()比较；类型不同的数组（例如int[]和long[]、int[][]和int[]）不相等。</p>
+     *
+     * @param lhs 左边的对象，可能为null
+     * @param rhs 右边的对象，可能为null
+     * @return 如果相等则返回true
+     */
+    private static boolean isEqualsInternal(Object lhs, Object rhs) {
+        if (lhs == rhs) {
+            return true;
+        }
+        if (lhs == null || rhs == null) {
+            return false;
+        }
+        Class lhsClass = lhs.getClass();
+        if (!lhsClass.isArray()) {
+            if (lhs instanceof java.math.BigDecimal) {
+                // BigDecimal的比较规则由EqualsBuilder决定，交给它处理以保证结果一致
+                return new EqualsBuilder().append(lhs, rhs).isEquals();
+            }
+            return lhs.equals(rhs);
+        }
+        if (lhsClass != rhs.getClass()) {
+            return false;
+        }
+        if (lhs instanceof long[]) {
+            long[] a = (long[]) lhs;
+            long[] b = (long[]) rhs;
+            if (a.length != b.length) {
+                return false;
+            }
+            for (int i = 0; i < a.length; i++) {
+                if (a[i] != b[i]) {
+                    return false;
+                }
+            }
+        } else if (lhs instanceof int[]) {
+            int[] a = (int[]) lhs;
+            int[] b = (int[]) rhs;
+            if (a.length != b.length) {
+                return false;
+            }
+            for (int i = 0; i < a.length; i++) {
+                if (a[i] != b[i]) {
+                    return false;
+                }
+            }
+        } else if (lhs instanceof short[]) {
+            short[] a = (short[]) lhs;
+            short[] b = (short[]) rhs;
+            if (a.length != b.length) {
+                return false;
+            }
+            for (int i = 0; i < a.length; i++) {
+                if (a[i] != b[i]) {
+                    return false;
+                }
+            }
+        } else if (lhs instanceof char[]) {
+            char[] a = (char[]) lhs;
+            char[] b = (char[]) rhs;
+            if (a.length != b.length) {
+                return false;
+            }
+            for (int i = 0; i < a.length; i++) {
+                if (a[i] != b[i]) {
+                    return false;
+                }
+            }
+        } else if (lhs instanceof byte[]) {
+            byte[] a = (byte[]) lhs;
+            byte[] b = (byte[]) rhs;
+            if (a.length != b.length) {
+                return false;
+            }
+            for (int i = 0; i < a.length; i++) {
+                if (a[i] != b[i]) {
+                    return false;
+                }
+            }
+        } else if (lhs instanceof double[]) {
+            double[] a = (double[]) lhs;
+            double[] b = (double[]) rhs;
+            if (a.length != b.length) {
+                return false;
+            }
+            for (int i = 0; i < a.length; i++) {
+                if (Double.doubleToLongBits(a[i]) != Double.doubleToLongBits(b[i])) {
+                    return false;
+                }
+            }
+        } else if (lhs instanceof float[]) {
+            float[] a = (float[]) lhs;
+            float[] b = (float[]) rhs;
+            if (a.length != b.length) {
+                return false;
+            }
+            for (int i = 0; i < a.length; i++) {
+                if (Float.floatToIntBits(a[i]) != Float.floatToIntBits(b[i])) {
+                    return false;
+                }
+            }
+        } else if (lhs instanceof boolean[]) {
+            boolean[] a = (boolean[]) lhs;
+            boolean[] b = (boolean[]) rhs;
+            if (a.length != b.length) {
+                return false;
+            }
+            for (int i = 0; i < a.length; i++) {
+                if (a[i] != b[i]) {
+                    return false;
+                }
+            }
+        } else {
+            Object[] a = (Object[]) lhs;
+            Object[] b = (Object[]) rhs;
+            if (a.length != b.length) {
+                return false;
+            }
+            for (int i = 0; i < a.length; i++) {
+                if (!isEqualsInternal(a[i], b[i])) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
     // To map，将数组转换成Map集合的方法
@@ -1579,8 +2165,20 @@ public class ArrayUtils {
         if (startIndex < 0) {
             startIndex = 0;
         }
-        for (int i = startIndex; i < array.length; i++) {
-            // 注意，如果是基本数据类型，那么不需要判断null操作，只需要使用"=="判断两个数值是否相等即可
+        // 注意，如果是基本数据类型，那么不需要判断null操作，只需要使用"=="判断两个数值是否相等即可
+        int length = array.length;
+        int i = startIndex;
+        // 按每4个元素一组进行比较，使用不短路的"|"合并比较结果，每组只需要一次分支判断，减少大数组上的分支开销
+        // 这里没有使用jdk.incubator.vector：孵化模块需要在编译和运行时都加上--add-modules才能使用，本项目没有可以启用它的构建配置
+        int limit = length - 3;
+        for (; i < limit; i += 4) {
+            if ((valueToFind == array[i]) | (valueToFind == array[i + 1])
+                    | (valueToFind == array[i + 2]) | (valueToFind == array[i + 3])) {
+                break;
+            }
+        }
+        // 在命中的那一组中定位第一个匹配的索引，或者处理末尾不足4个的剩余元素
+        for (; i < length; i++) {
             if (valueToFind == array[i]) {
                 return i;
             }
@@ -1672,7 +2270,18 @@ public class ArrayUtils {
         if (startIndex < 0) {
             startIndex = 0;
         }
-        for (int i = startIndex; i < array.length; i++) {
+        int length = array.length;
+        int i = startIndex;
+        // 按每4个元素一组进行比较，使用不短路的"|"合并比较结果，每组只需要一次分支判断，减少大数组上的分支开销
+        int limit = length - 3;
+        for (; i < limit; i += 4) {
+            if ((valueToFind == array[i]) | (valueToFind == array[i + 1])
+                    | (valueToFind == array[i + 2]) | (valueToFind == array[i + 3])) {
+                break;
+            }
+        }
+        // 在命中的那一组中定位第一个匹配的索引，或者处理末尾不足4个的剩余元素
+        for (; i < length; i++) {
             if (valueToFind == array[i]) {
                 return i;
             }
@@ -1856,7 +2465,18 @@ public class ArrayUtils {
         if (startIndex < 0) {
             startIndex = 0;
         }
-        for (int i = startIndex; i < array.length; i++) {
+        int length = array.length;
+        int i = startIndex;
+        // 按每4个元素一组进行比较，使用不短路的"|"合并比较结果，每组只需要一次分支判断，减少大数组上的分支开销
+        int limit = length - 3;
+        for (; i < limit; i += 4) {
+            if ((valueToFind == array[i]) | (valueToFind == array[i + 1])
+                    | (valueToFind == array[i + 2]) | (valueToFind == array[i + 3])) {
+                break;
+            }
+        }
+        // 在命中的那一组中定位第一个匹配的索引，或者处理末尾不足4个的剩余元素
+        for (; i < length; i++) {
             if (valueToFind == array[i]) {
                 return i;
             }
@@ -1896,7 +2516,16 @@ public class ArrayUtils {
         } else if (startIndex >= array.length) {
             startIndex = array.length - 1;
         }
-        for (int i = startIndex; i >= 0; i--) {
+        int i = startIndex;
+        // 从后向前按每4个元素一组进行比较，每组只需要一次分支判断
+        for (; i >= 3; i -= 4) {
+            if ((valueToFind == array[i]) | (valueToFind == array[i - 1])
+                    | (valueToFind == array[i - 2]) | (valueToFind == array[i - 3])) {
+                break;
+            }
+        }
+        // 在命中的那一组中定位最后一个匹配的索引，或者处理开头不足4个的剩余元素
+        for (; i >= 0; i--) {
             if (valueToFind == array[i]) {
                 return i;
             }
@@ -1948,7 +2577,20 @@ public class ArrayUtils {
         if (startIndex < 0) {
             startIndex = 0;
         }
-        for (int i = startIndex; i < array.length; i++) {
+        int length = array.length;
+        int i = startIndex;
+        // 每次读取8个字节，与valueToFind重复8次得到的long异或后，相等的字节变成0，再用zeroBytes()找出为0的字节
+        long pattern = (valueToFind & 0xFF) * LOW_BITS;
+        int limit = length - 7;
+        for (; i < limit; i += 8) {
+            long zeros = zeroBytes((long) LONG_VIEW.get(array, i) ^ pattern);
+            if (zeros != 0) {
+                // 小端序，索引最小的字节在最低位
+                return i + (Long.numberOfTrailingZeros(zeros) >>> 3);
+            }
+        }
+        // 处理末尾不足8个的剩余元素
+        for (; i < length; i++) {
             if (valueToFind == array[i]) {
                 return i;
             }
@@ -1988,7 +2630,18 @@ public class ArrayUtils {
         } else if (startIndex >= array.length) {
             startIndex = array.length - 1;
         }
-        for (int i = startIndex; i >= 0; i--) {
+        int i = startIndex;
+        // 从后向前每次读取[i - 7, i]这8个字节，方法与indexOf(byte[], byte, int)相同
+        long pattern = (valueToFind & 0xFF) * LOW_BITS;
+        for (; i >= 7; i -= 8) {
+            long zeros = zeroBytes((long) LONG_VIEW.get(array, i - 7) ^ pattern);
+            if (zeros != 0) {
+                // 小端序，索引最大的字节在最高位
+                return i - 7 + ((63 - Long.numberOfLeadingZeros(zeros)) >>> 3);
+            }
+        }
+        // 处理开头不足8个的剩余元素
+        for (; i >= 0; i--) {
             if (valueToFind == array[i]) {
                 return i;
             }
@@ -1996,6 +2649,18 @@ public class ArrayUtils {
         return INDEX_NOT_FOUND;
     }
 
+    /**
+     * <p>找出一个long中值为0的字节：值为0的字节对应的最高位为1，其余位都为0。</p>
+     * <p>常见的写法<code>(x - 0x0101...) &amp; ~x &amp; 0x8080...</code>会因为借位在真正为0的字节之上产生误报，
+     * 这里先对每个字节的低7位做加法，不会跨字节进位，所以结果是精确的，lastIndexOf也可以直接使用最高的那一位。</p>
+     *
+     * @param x 8个字节
+     * @return 标记了值为0的字节的long，如果没有值为0的字节则返回0
+     */
+    private static long zeroBytes(long x) {
+        return ~(((x & LOW_7_BITS) + LOW_7_BITS) | x | LOW_7_BITS);
+    }
+
     /**
      * 判断指定数组中是否包含指定值
      * <p><i>注：下面的几个方法都是重载方法，传入的参数是八大基本数据类型：byte、short、int、long、float、double、boolean、char</i></p>
@@ -3473,7 +4138,7 @@ public class ArrayUtils {
      */
     public static boolean[] add(boolean[] array, boolean element) {
         // 创建输入数组的副本
-        boolean[] newArray = (boolean[]) copyArrayGrow1(array, Boolean.TYPE);
+        boolean[] newArray = copyArrayGrow1(array);
         // 将数组的最后一个位置赋给待插入元素element
         newArray[newArray.length - 1] = element;
         // 返回添加成功的数组
@@ -3497,7 +4162,7 @@ public class ArrayUtils {
      * @return 包含现有元素和新插入元素的新数组
      */
     public static byte[] add(byte[] array, byte element) {
-        byte[] newArray = (byte[]) copyArrayGrow1(array, Byte.TYPE);
+        byte[] newArray = copyArrayGrow1(array);
         newArray[newArray.length - 1] = element;
         return newArray;
     }
@@ -3519,7 +4184,7 @@ public class ArrayUtils {
      * @return 包含现有元素和新插入元素的新数组
      */
     public static char[] add(char[] array, char element) {
-        char[] newArray = (char[]) copyArrayGrow1(array, Character.TYPE);
+        char[] newArray = copyArrayGrow1(array);
         newArray[newArray.length - 1] = element;
         return newArray;
     }
@@ -3541,7 +4206,7 @@ public class ArrayUtils {
      * @return 包含现有元素和新插入元素的新数组
      */
     public static double[] add(double[] array, double element) {
-        double[] newArray = (double[]) copyArrayGrow1(array, Double.TYPE);
+        double[] newArray = copyArrayGrow1(array);
         newArray[newArray.length - 1] = element;
         return newArray;
     }
@@ -3563,7 +4228,7 @@ public class ArrayUtils {
      * @return 包含现有元素和新插入元素的新数组
      */
     public static float[] add(float[] array, float element) {
-        float[] newArray = (float[]) copyArrayGrow1(array, Float.TYPE);
+        float[] newArray = copyArrayGrow1(array);
         newArray[newArray.length - 1] = element;
         return newArray;
     }
@@ -3585,7 +4250,7 @@ public class ArrayUtils {
      * @return 包含现有元素和新插入元素的新数组
      */
     public static int[] add(int[] array, int element) {
-        int[] newArray = (int[]) copyArrayGrow1(array, Integer.TYPE);
+        int[] newArray = copyArrayGrow1(array);
         newArray[newArray.length - 1] = element;
         return newArray;
     }
@@ -3607,7 +4272,7 @@ public class ArrayUtils {
      * @return 包含现有元素和新插入元素的新数组
      */
     public static long[] add(long[] array, long element) {
-        long[] newArray = (long[]) copyArrayGrow1(array, Long.TYPE);
+        long[] newArray = copyArrayGrow1(array);
         newArray[newArray.length - 1] = element;
         return newArray;
     }
@@ -3629,7 +4294,7 @@ public class ArrayUtils {
      * @return 包含现有元素和新插入元素的新数组
      */
     public static short[] add(short[] array, short element) {
-        short[] newArray = (short[]) copyArrayGrow1(array, Short.TYPE);
+        short[] newArray = copyArrayGrow1(array);
         newArray[newArray.length - 1] = element;
         return newArray;
     }
@@ -3656,6 +4321,111 @@ public class ArrayUtils {
         return Array.newInstance(newArrayComponentType, 1);
     }
 
+    /**
+     * <p>{@link #copyArrayGrow1(Object, Class)}的boolean[]版本，使用{@link Arrays#copyOf(boolean[], int)}，不使用反射。</p>
+     *
+     * @param array 要复制的数组，可能为null
+     * @return 大小比输入数组array大1的数组的新副本，如果array为null则返回长度为1的新数组
+     */
+    private static boolean[] copyArrayGrow1(boolean[] array) {
+        if (array != null) {
+            // Arrays.copyOf是JIT内联函数，只会对多出来的最后一个元素清零，不会先把整个新数组清零再复制
+            return Arrays.copyOf(array, array.length + 1);
+        }
+        return new boolean[1];
+    }
+
+    /**
+     * <p>{@link #copyArrayGrow1(Object, Class)}的byte[]版本，使用{@link Arrays#copyOf(byte[], int)}，不使用反射。</p>
+     *
+     * @param array 要复制的数组，可能为null
+     * @return 大小比输入数组array大1的数组的新副本，如果array为null则返回长度为1的新数组
+     */
+    private static byte[] copyArrayGrow1(byte[] array) {
+        if (array != null) {
+            return Arrays.copyOf(array, array.length + 1);
+        }
+        return new byte[1];
+    }
+
+    /**
+     * <p>{@link #copyArrayGrow1(Object, Class)}的char[]版本，使用{@link Arrays#copyOf(char[], int)}，不使用反射。</p>
+     *
+     * @param array 要复制的数组，可能为null
+     * @return 大小比输入数组array大1的数组的新副本，如果array为null则返回长度为1的新数组
+     */
+    private static char[] copyArrayGrow1(char[] array) {
+        if (array != null) {
+            return Arrays.copyOf(array, array.length + 1);
+        }
+        return new char[1];
+    }
+
+    /**
+     * <p>{@link #copyArrayGrow1(Object, Class)}的double[]版本，使用{@link Arrays#copyOf(double[], int)}，不使用反射。</p>
+     *
+     * @param array 要复制的数组，可能为null
+     * @return 大小比输入数组array大1的数组的新副本，如果array为null则返回长度为1的新数组
+     */
+    private static double[] copyArrayGrow1(double[] array) {
+        if (array != null) {
+            return Arrays.copyOf(array, array.length + 1);
+        }
+        return new double[1];
+    }
+
+    /**
+     * <p>{@link #copyArrayGrow1(Object, Class)}的float[]版本，使用{@link Arrays#copyOf(float[], int)}，不使用反射。</p>
+     *
+     * @param array 要复制的数组，可能为null
+     * @return 大小比输入数组array大1的数组的新副本，如果array为null则返回长度为1的新数组
+     */
+    private static float[] copyArrayGrow1(float[] array) {
+        if (array != null) {
+            return Arrays.copyOf(array, array.length + 1);
+        }
+        return new float[1];
+    }
+
+    /**
+     * <p>{@link #copyArrayGrow1(Object, Class)}的int[]版本，使用{@link Arrays#copyOf(int[], int)}，不使用反射。</p>
+     *
+     * @param array 要复制的数组，可能为null
+     * @return 大小比输入数组array大1的数组的新副本，如果array为null则返回长度为1的新数组
+     */
+    private static int[] copyArrayGrow1(int[] array) {
+        if (array != null) {
+            return Arrays.copyOf(array, array.length + 1);
+        }
+        return new int[1];
+    }
+
+    /**
+     * <p>{@link #copyArrayGrow1(Object, Class)}的long[]版本，使用{@link Arrays#copyOf(long[], int)}，不使用反射。</p>
+     *
+     * @param array 要复制的数组，可能为null
+     * @return 大小比输入数组array大1的数组的新副本，如果array为null则返回长度为1的新数组
+     */
+    private static long[] copyArrayGrow1(long[] array) {
+        if (array != null) {
+            return Arrays.copyOf(array, array.length + 1);
+        }
+        return new long[1];
+    }
+
+    /**
+     * <p>{@link #copyArrayGrow1(Object, Class)}的short[]版本，使用{@link Arrays#copyOf(short[], int)}，不使用反射。</p>
+     *
+     * @param array 要复制的数组，可能为null
+     * @return 大小比输入数组array大1的数组的新副本，如果array为null则返回长度为1的新数组
+     */
+    private static short[] copyArrayGrow1(short[] array) {
+        if (array != null) {
+            return Arrays.copyOf(array, array.length + 1);
+        }
+        return new short[1];
+    }
+
     /**
      * <p>在数组的指定索引位置插入指定的元素。并且将当前在该位置的元素（如果当前位置有元素）和其任何后续元素向右移动一位。</p>
      * <p>此方法返回一个新数组，该数组具有输入数组的相同元素加上位置上的给定元素。返回数组的数据类型与输入数组的数据类型相同。如果输入数组为null，则返回一个新的单元素数组，其类型和给定元素的类型相同。</p>
@@ -3709,7 +4479,18 @@ public class ArrayUtils {
      * @throws IndexOutOfBoundsException 如果索引超出指定范围（index < 0 || index > array.length）
      */
     public static boolean[] add(boolean[] array, int index, boolean element) {
-        return (boolean[]) add(array, index, BooleanUtils.toBooleanObject(element), Boolean.TYPE);
+        // 直接创建boolean[]数组并赋值，不经过反射的Array.newInstance()和Array.set()，也不需要将element装箱
+        int length = array == null ? 0 : array.length;
+        if (index > length || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        boolean[] result = new boolean[length + 1];
+        if (array != null) {
+            System.arraycopy(array, 0, result, 0, index);
+            System.arraycopy(array, index, result, index + 1, length - index);
+        }
+        result[index] = element;
+        return result;
     }
 
     /**
@@ -3732,13 +4513,24 @@ public class ArrayUtils {
      * @throws IndexOutOfBoundsException 如果索引超出指定范围（index < 0 || index > array.length）
      */
     public static char[] add(char[] array, int index, char element) {
-        return (char[]) add(array, index, new Character(element), Character.TYPE);
-    }
-
-    /**
-     * <p>在数组的指定索引位置插入指定的元素。并且将当前在该位置的元素（如果当前位置有元素）和其任何后续元素向右移动一位。</p>
-     * <p>此方法返回一个新数组，该数组具有输入数组的相同元素加上位置上的给定元素。返回数组的数据类型与输入数组的数据类型相同。
-     * 如果输入数组为null，则返回一个新的单元素数组，其类型和给定元素的类型相同。</p>
+        // 直接创建char[]数组并赋值，不经过反射的Array.newInstance()和Array.set()，也不需要将element装箱
+        int length = array == null ? 0 : array.length;
+        if (index > length || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        char[] result = new char[length + 1];
+        if (array != null) {
+            System.arraycopy(array, 0, result, 0, index);
+            System.arraycopy(array, index, result, index + 1, length - index);
+        }
+        result[index] = element;
+        return result;
+    }
+
+    /**
+     * <p>在数组的指定索引位置插入指定的元素。并且将当前在该位置的元素（如果当前位置有元素）和其任何后续元素向右移动一位。</p>
+     * <p>此方法返回一个新数组，该数组具有输入数组的相同元素加上位置上的给定元素。返回数组的数据类型与输入数组的数据类型相同。
+     * 如果输入数组为null，则返回一个新的单元素数组，其类型和给定元素的类型相同。</p>
      * <p><i>注：下面的几个重载方法都是八大基本数据类型的添加方法。</i></p>
      * <pre>
      *     ArrayUtils.add([1], 0, 2)         = [2, 1]
@@ -3754,7 +4546,18 @@ public class ArrayUtils {
      * @throws IndexOutOfBoundsException 如果索引超出指定范围（index < 0 || index > array.length）
      */
     public static byte[] add(byte[] array, int index, byte element) {
-        return (byte[]) add(array, index, new Byte(element), Byte.TYPE);
+        // 直接创建byte[]数组并赋值，不经过反射的Array.newInstance()和Array.set()，也不需要将element装箱
+        int length = array == null ? 0 : array.length;
+        if (index > length || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        byte[] result = new byte[length + 1];
+        if (array != null) {
+            System.arraycopy(array, 0, result, 0, index);
+            System.arraycopy(array, index, result, index + 1, length - index);
+        }
+        result[index] = element;
+        return result;
     }
 
     /**
@@ -3776,7 +4579,18 @@ public class ArrayUtils {
      * @throws IndexOutOfBoundsException 如果索引超出指定范围（index < 0 || index > array.length）
      */
     public static short[] add(short[] array, int index, short element) {
-        return (short[]) add(array, index, new Short(element), Short.TYPE);
+        // 直接创建short[]数组并赋值，不经过反射的Array.newInstance()和Array.set()，也不需要将element装箱
+        int length = array == null ? 0 : array.length;
+        if (index > length || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        short[] result = new short[length + 1];
+        if (array != null) {
+            System.arraycopy(array, 0, result, 0, index);
+            System.arraycopy(array, index, result, index + 1, length - index);
+        }
+        result[index] = element;
+        return result;
     }
 
     /**
@@ -3798,7 +4612,18 @@ public class ArrayUtils {
      * @throws IndexOutOfBoundsException 如果索引超出指定范围（index < 0 || index > array.length）
      */
     public static int[] add(int[] array, int index, int element) {
-        return (int[]) add(array, index, new Integer(element), Integer.TYPE);
+        // 直接创建int[]数组并赋值，不经过反射的Array.newInstance()和Array.set()，也不需要将element装箱
+        int length = array == null ? 0 : array.length;
+        if (index > length || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        int[] result = new int[length + 1];
+        if (array != null) {
+            System.arraycopy(array, 0, result, 0, index);
+            System.arraycopy(array, index, result, index + 1, length - index);
+        }
+        result[index] = element;
+        return result;
     }
 
     /**
@@ -3820,7 +4645,18 @@ public class ArrayUtils {
      * @throws IndexOutOfBoundsException 如果索引超出指定范围（index < 0 || index > array.length）
      */
     public static long[] add(long[] array, int index, long element) {
-        return (long[]) add(array, index, new Long(element), Long.TYPE);
+        // 直接创建long[]数组并赋值，不经过反射的Array.newInstance()和Array.set()，也不需要将element装箱
+        int length = array == null ? 0 : array.length;
+        if (index > length || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        long[] result = new long[length + 1];
+        if (array != null) {
+            System.arraycopy(array, 0, result, 0, index);
+            System.arraycopy(array, index, result, index + 1, length - index);
+        }
+        result[index] = element;
+        return result;
     }
 
     /**
@@ -3842,7 +4678,18 @@ public class ArrayUtils {
      * @throws IndexOutOfBoundsException 如果索引超出指定范围（index < 0 || index > array.length）
      */
     public static float[] add(float[] array, int index, float element) {
-        return (float[]) add(array, index, new Float(element), Float.TYPE);
+        // 直接创建float[]数组并赋值，不经过反射的Array.newInstance()和Array.set()，也不需要将element装箱
+        int length = array == null ? 0 : array.length;
+        if (index > length || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        float[] result = new float[length + 1];
+        if (array != null) {
+            System.arraycopy(array, 0, result, 0, index);
+            System.arraycopy(array, index, result, index + 1, length - index);
+        }
+        result[index] = element;
+        return result;
     }
 
     /**
@@ -3864,7 +4711,18 @@ public class ArrayUtils {
      * @throws IndexOutOfBoundsException 如果索引超出指定范围（index < 0 || index > array.length）
      */
     public static double[] add(double[] array, int index, double element) {
-        return (double[]) add(array, index, new Double(element), Double.TYPE);
+        // 直接创建double[]数组并赋值，不经过反射的Array.newInstance()和Array.set()，也不需要将element装箱
+        int length = array == null ? 0 : array.length;
+        if (index > length || index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        double[] result = new double[length + 1];
+        if (array != null) {
+            System.arraycopy(array, 0, result, 0, index);
+            System.arraycopy(array, index, result, index + 1, length - index);
+        }
+        result[index] = element;
+        return result;
     }
 
     /**
@@ -4005,7 +4863,17 @@ public class ArrayUtils {
      */
     public static boolean[] remove(boolean[] array, int index) {
         // 移除boolean类型数组中指定索引位置的元素
-        return (boolean[]) remove((Object) array, index);
+        // 直接创建boolean[]数组，不经过反射的Array.getLength()和Array.newInstance()
+        int length = array == null ? 0 : array.length;
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        boolean[] result = new boolean[length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        if (index < length - 1) {
+            System.arraycopy(array, index + 1, result, index, length - index - 1);
+        }
+        return result;
     }
 
     /**
@@ -4049,7 +4917,17 @@ public class ArrayUtils {
      * @throws IndexOutOfBoundsException 如果索引超出范围（index <0 || index >= array.length），或者数组为null
      */
     public static byte[] remove(byte[] array, int index) {
-        return (byte[]) remove((Object) array, index);
+        // 直接创建byte[]数组，不经过反射的Array.getLength()和Array.newInstance()
+        int length = array == null ? 0 : array.length;
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        byte[] result = new byte[length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        if (index < length - 1) {
+            System.arraycopy(array, index + 1, result, index, length - index - 1);
+        }
+        return result;
     }
 
     /**
@@ -4093,7 +4971,17 @@ public class ArrayUtils {
      * @throws IndexOutOfBoundsException 如果索引超出范围（index <0 || index >= array.length），或者数组为null
      */
     public static char[] remove(char[] array, int index) {
-        return (char[]) remove((Object) array, index);
+        // 直接创建char[]数组，不经过反射的Array.getLength()和Array.newInstance()
+        int length = array == null ? 0 : array.length;
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        char[] result = new char[length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        if (index < length - 1) {
+            System.arraycopy(array, index + 1, result, index, length - index - 1);
+        }
+        return result;
     }
 
     /**
@@ -4137,7 +5025,17 @@ public class ArrayUtils {
      * @throws IndexOutOfBoundsException 如果索引超出范围（index <0 || index >= array.length），或者数组为null
      */
     public static double[] remove(double[] array, int index) {
-        return (double[]) remove((Object) array, index);
+        // 直接创建double[]数组，不经过反射的Array.getLength()和Array.newInstance()
+        int length = array == null ? 0 : array.length;
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        double[] result = new double[length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        if (index < length - 1) {
+            System.arraycopy(array, index + 1, result, index, length - index - 1);
+        }
+        return result;
     }
 
     /**
@@ -4181,7 +5079,17 @@ public class ArrayUtils {
      * @throws IndexOutOfBoundsException 如果索引超出范围（index <0 || index >= array.length），或者数组为null
      */
     public static float[] remove(float[] array, int index) {
-        return (float[]) remove((Object) array, index);
+        // 直接创建float[]数组，不经过反射的Array.getLength()和Array.newInstance()
+        int length = array == null ? 0 : array.length;
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        float[] result = new float[length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        if (index < length - 1) {
+            System.arraycopy(array, index + 1, result, index, length - index - 1);
+        }
+        return result;
     }
 
     /**
@@ -4225,7 +5133,17 @@ public class ArrayUtils {
      * @throws IndexOutOfBoundsException 如果索引超出范围（index <0 || index >= array.length），或者数组为null
      */
     public static int[] remove(int[] array, int index) {
-        return (int[]) remove((Object) array, index);
+        // 直接创建int[]数组，不经过反射的Array.getLength()和Array.newInstance()
+        int length = array == null ? 0 : array.length;
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        int[] result = new int[length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        if (index < length - 1) {
+            System.arraycopy(array, index + 1, result, index, length - index - 1);
+        }
+        return result;
     }
 
     /**
@@ -4269,7 +5187,17 @@ public class ArrayUtils {
      * @throws IndexOutOfBoundsException 如果索引超出范围（index <0 || index >= array.length），或者数组为null
      */
     public static long[] remove(long[] array, int index) {
-        return (long[]) remove((Object) array, index);
+        // 直接创建long[]数组，不经过反射的Array.getLength()和Array.newInstance()
+        int length = array == null ? 0 : array.length;
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        long[] result = new long[length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        if (index < length - 1) {
+            System.arraycopy(array, index + 1, result, index, length - index - 1);
+        }
+        return result;
     }
 
     /**
@@ -4313,7 +5241,17 @@ public class ArrayUtils {
      * @throws IndexOutOfBoundsException 如果索引超出范围（index <0 || index >= array.length），或者数组为null
      */
     public static short[] remove(short[] array, int index) {
-        return (short[]) remove((Object) array, index);
+        // 直接创建short[]数组，不经过反射的Array.getLength()和Array.newInstance()
+        int length = array == null ? 0 : array.length;
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        short[] result = new short[length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        if (index < length - 1) {
+            System.arraycopy(array, index + 1, result, index, length - index - 1);
+        }
+        return result;
     }
 
     /**
@@ -4371,4 +5309,742 @@ public class ArrayUtils {
         return result;
     }
 
-}
\ No newline at end of file
+    // 批量删除，removeAll()按索引删除多个元素，removeElements()按值删除多个元素
+    //-----------------------------------------------------------------------
+
+    /**
+     * <p>从指定数组中一次性删除多个指定索引位置的元素，剩余的元素依次向前（左）移动。</p>
+     * <p>与循环调用{@link #remove(Object[], int)}每次都创建新数组并复制不同，该方法先用位图标记所有待删除的索引，然后只创建一个新数组并复制一次，
+     * 删除k个元素的时间复杂度从O(k·n)降为O(n + k)。重复的索引只删除一次，索引不需要排序。</p>
+     * <pre>
+     *     ArrayUtils.removeAll(["a", "b", "c"], [0, 2])   = ["b"]
+     *     ArrayUtils.removeAll(["a", "b", "c"], [2, 0, 2]) = ["b"]
+     *     ArrayUtils.removeAll(["a", "b"], null)          = ["a", "b"]
+     * </pre>
+     *
+     * @param array   要从中删除元素的数组，如果有待删除的索引则不能为null
+     * @param indices 待删除元素的索引，可能为null，为null或空数组时返回原数组的副本
+     * @return 包含除指定位置之外的所有元素的新数组
+     * @throws IndexOutOfBoundsException 如果有索引超出范围（index < 0 || index >= array.length），或者数组为null
+     */
+    public static Object[] removeAll(Object[] array, int[] indices) {
+        BitSet marks = markIndices(array == null ? 0 : array.length, indices);
+        if (marks == null) {
+            return clone(array);
+        }
+        Object[] result = (Object[]) Array.newInstance(array.getClass().getComponentType(), array.length - marks.cardinality());
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>从指定数组中一次性删除多个指定索引位置的元素，剩余的元素依次向前（左）移动。</p>
+     * <p>与循环调用{@link #remove(boolean[], int)}每次都创建新数组并复制不同，该方法先用位图标记所有待删除的索引，然后只创建一个新数组并复制一次，
+     * 删除k个元素的时间复杂度从O(k·n)降为O(n + k)。重复的索引只删除一次，索引不需要排序。</p>
+     * <pre>
+     *     ArrayUtils.removeAll([true, false, true], [0, 2]) = [false]
+     *     ArrayUtils.removeAll([true, false], null)         = [true, false]
+     * </pre>
+     *
+     * @param array   要从中删除元素的数组，如果有待删除的索引则不能为null
+     * @param indices 待删除元素的索引，可能为null，为null或空数组时返回原数组的副本
+     * @return 包含除指定位置之外的所有元素的新数组
+     * @throws IndexOutOfBoundsException 如果有索引超出范围（index < 0 || index >= array.length），或者数组为null
+     */
+    public static boolean[] removeAll(boolean[] array, int[] indices) {
+        BitSet marks = markIndices(array == null ? 0 : array.length, indices);
+        if (marks == null) {
+            return clone(array);
+        }
+        boolean[] result = new boolean[array.length - marks.cardinality()];
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>从指定数组中一次性删除多个指定索引位置的元素，剩余的元素依次向前（左）移动。</p>
+     * <p>与循环调用{@link #remove(byte[], int)}每次都创建新数组并复制不同，该方法先用位图标记所有待删除的索引，然后只创建一个新数组并复制一次，
+     * 删除k个元素的时间复杂度从O(k·n)降为O(n + k)。重复的索引只删除一次，索引不需要排序。</p>
+     * <pre>
+     *     ArrayUtils.removeAll([1, 2, 3, 4], [0, 2])   = [2, 4]
+     *     ArrayUtils.removeAll([1, 2, 3, 4], [3, 0, 3]) = [2, 3]
+     *     ArrayUtils.removeAll([1, 2], null)           = [1, 2]
+     * </pre>
+     *
+     * @param array   要从中删除元素的数组，如果有待删除的索引则不能为null
+     * @param indices 待删除元素的索引，可能为null，为null或空数组时返回原数组的副本
+     * @return 包含除指定位置之外的所有元素的新数组
+     * @throws IndexOutOfBoundsException 如果有索引超出范围（index < 0 || index >= array.length），或者数组为null
+     */
+    public static byte[] removeAll(byte[] array, int[] indices) {
+        BitSet marks = markIndices(array == null ? 0 : array.length, indices);
+        if (marks == null) {
+            return clone(array);
+        }
+        byte[] result = new byte[array.length - marks.cardinality()];
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>从指定数组中一次性删除多个指定索引位置的元素，剩余的元素依次向前（左）移动。</p>
+     * <p>与循环调用{@link #remove(char[], int)}每次都创建新数组并复制不同，该方法先用位图标记所有待删除的索引，然后只创建一个新数组并复制一次，
+     * 删除k个元素的时间复杂度从O(k·n)降为O(n + k)。重复的索引只删除一次，索引不需要排序。</p>
+     * <pre>
+     *     ArrayUtils.removeAll([1, 2, 3, 4], [0, 2])   = [2, 4]
+     *     ArrayUtils.removeAll([1, 2, 3, 4], [3, 0, 3]) = [2, 3]
+     *     ArrayUtils.removeAll([1, 2], null)           = [1, 2]
+     * </pre>
+     *
+     * @param array   要从中删除元素的数组，如果有待删除的索引则不能为null
+     * @param indices 待删除元素的索引，可能为null，为null或空数组时返回原数组的副本
+     * @return 包含除指定位置之外的所有元素的新数组
+     * @throws IndexOutOfBoundsException 如果有索引超出范围（index < 0 || index >= array.length），或者数组为null
+     */
+    public static char[] removeAll(char[] array, int[] indices) {
+        BitSet marks = markIndices(array == null ? 0 : array.length, indices);
+        if (marks == null) {
+            return clone(array);
+        }
+        char[] result = new char[array.length - marks.cardinality()];
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>从指定数组中一次性删除多个指定索引位置的元素，剩余的元素依次向前（左）移动。</p>
+     * <p>与循环调用{@link #remove(double[], int)}每次都创建新数组并复制不同，该方法先用位图标记所有待删除的索引，然后只创建一个新数组并复制一次，
+     * 删除k个元素的时间复杂度从O(k·n)降为O(n + k)。重复的索引只删除一次，索引不需要排序。</p>
+     * <pre>
+     *     ArrayUtils.removeAll([1, 2, 3, 4], [0, 2])   = [2, 4]
+     *     ArrayUtils.removeAll([1, 2, 3, 4], [3, 0, 3]) = [2, 3]
+     *     ArrayUtils.removeAll([1, 2], null)           = [1, 2]
+     * </pre>
+     *
+     * @param array   要从中删除元素的数组，如果有待删除的索引则不能为null
+     * @param indices 待删除元素的索引，可能为null，为null或空数组时返回原数组的副本
+     * @return 包含除指定位置之外的所有元素的新数组
+     * @throws IndexOutOfBoundsException 如果有索引超出范围（index < 0 || index >= array.length），或者数组为null
+     */
+    public static double[] removeAll(double[] array, int[] indices) {
+        BitSet marks = markIndices(array == null ? 0 : array.length, indices);
+        if (marks == null) {
+            return clone(array);
+        }
+        double[] result = new double[array.length - marks.cardinality()];
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>从指定数组中一次性删除多个指定索引位置的元素，剩余的元素依次向前（左）移动。</p>
+     * <p>与循环调用{@link #remove(float[], int)}每次都创建新数组并复制不同，该方法先用位图标记所有待删除的索引，然后只创建一个新数组并复制一次，
+     * 删除k个元素的时间复杂度从O(k·n)降为O(n + k)。重复的索引只删除一次，索引不需要排序。</p>
+     * <pre>
+     *     ArrayUtils.removeAll([1, 2, 3, 4], [0, 2])   = [2, 4]
+     *     ArrayUtils.removeAll([1, 2, 3, 4], [3, 0, 3]) = [2, 3]
+     *     ArrayUtils.removeAll([1, 2], null)           = [1, 2]
+     * </pre>
+     *
+     * @param array   要从中删除元素的数组，如果有待删除的索引则不能为null
+     * @param indices 待删除元素的索引，可能为null，为null或空数组时返回原数组的副本
+     * @return 包含除指定位置之外的所有元素的新数组
+     * @throws IndexOutOfBoundsException 如果有索引超出范围（index < 0 || index >= array.length），或者数组为null
+     */
+    public static float[] removeAll(float[] array, int[] indices) {
+        BitSet marks = markIndices(array == null ? 0 : array.length, indices);
+        if (marks == null) {
+            return clone(array);
+        }
+        float[] result = new float[array.length - marks.cardinality()];
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>从指定数组中一次性删除多个指定索引位置的元素，剩余的元素依次向前（左）移动。</p>
+     * <p>与循环调用{@link #remove(int[], int)}每次都创建新数组并复制不同，该方法先用位图标记所有待删除的索引，然后只创建一个新数组并复制一次，
+     * 删除k个元素的时间复杂度从O(k·n)降为O(n + k)。重复的索引只删除一次，索引不需要排序。</p>
+     * <pre>
+     *     ArrayUtils.removeAll([1, 2, 3, 4], [0, 2])   = [2, 4]
+     *     ArrayUtils.removeAll([1, 2, 3, 4], [3, 0, 3]) = [2, 3]
+     *     ArrayUtils.removeAll([1, 2], null)           = [1, 2]
+     * </pre>
+     *
+     * @param array   要从中删除元素的数组，如果有待删除的索引则不能为null
+     * @param indices 待删除元素的索引，可能为null，为null或空数组时返回原数组的副本
+     * @return 包含除指定位置之外的所有元素的新数组
+     * @throws IndexOutOfBoundsException 如果有索引超出范围（index < 0 || index >= array.length），或者数组为null
+     */
+    public static int[] removeAll(int[] array, int[] indices) {
+        BitSet marks = markIndices(array == null ? 0 : array.length, indices);
+        if (marks == null) {
+            return clone(array);
+        }
+        int[] result = new int[array.length - marks.cardinality()];
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>从指定数组中一次性删除多个指定索引位置的元素，剩余的元素依次向前（左）移动。</p>
+     * <p>与循环调用{@link #remove(long[], int)}每次都创建新数组并复制不同，该方法先用位图标记所有待删除的索引，然后只创建一个新数组并复制一次，
+     * 删除k个元素的时间复杂度从O(k·n)降为O(n + k)。重复的索引只删除一次，索引不需要排序。</p>
+     * <pre>
+     *     ArrayUtils.removeAll([1, 2, 3, 4], [0, 2])   = [2, 4]
+     *     ArrayUtils.removeAll([1, 2, 3, 4], [3, 0, 3]) = [2, 3]
+     *     ArrayUtils.removeAll([1, 2], null)           = [1, 2]
+     * </pre>
+     *
+     * @param array   要从中删除元素的数组，如果有待删除的索引则不能为null
+     * @param indices 待删除元素的索引，可能为null，为null或空数组时返回原数组的副本
+     * @return 包含除指定位置之外的所有元素的新数组
+     * @throws IndexOutOfBoundsException 如果有索引超出范围（index < 0 || index >= array.length），或者数组为null
+     */
+    public static long[] removeAll(long[] array, int[] indices) {
+        BitSet marks = markIndices(array == null ? 0 : array.length, indices);
+        if (marks == null) {
+            return clone(array);
+        }
+        long[] result = new long[array.length - marks.cardinality()];
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>从指定数组中一次性删除多个指定索引位置的元素，剩余的元素依次向前（左）移动。</p>
+     * <p>与循环调用{@link #remove(short[], int)}每次都创建新数组并复制不同，该方法先用位图标记所有待删除的索引，然后只创建一个新数组并复制一次，
+     * 删除k个元素的时间复杂度从O(k·n)降为O(n + k)。重复的索引只删除一次，索引不需要排序。</p>
+     * <pre>
+     *     ArrayUtils.removeAll([1, 2, 3, 4], [0, 2])   = [2, 4]
+     *     ArrayUtils.removeAll([1, 2, 3, 4], [3, 0, 3]) = [2, 3]
+     *     ArrayUtils.removeAll([1, 2], null)           = [1, 2]
+     * </pre>
+     *
+     * @param array   要从中删除元素的数组，如果有待删除的索引则不能为null
+     * @param indices 待删除元素的索引，可能为null，为null或空数组时返回原数组的副本
+     * @return 包含除指定位置之外的所有元素的新数组
+     * @throws IndexOutOfBoundsException 如果有索引超出范围（index < 0 || index >= array.length），或者数组为null
+     */
+    public static short[] removeAll(short[] array, int[] indices) {
+        BitSet marks = markIndices(array == null ? 0 : array.length, indices);
+        if (marks == null) {
+            return clone(array);
+        }
+        short[] result = new short[array.length - marks.cardinality()];
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>从指定数组中一次性删除多个指定的值，剩余的元素依次向前（左）移动。</p>
+     * <p>values中的每个值只删除数组中的一次出现，并且从前往后删除；如果一个值在values中出现了多次，则删除相应次数的出现，
+     * 即结果与依次对每个值调用{@link #removeElement(Object[], Object)}相同，但只遍历数组一遍并且只复制一次。</p>
+     * <pre>
+     *     ArrayUtils.removeElements(null, ["a"])                  = null
+     *     ArrayUtils.removeElements(["a", "b", "a"], ["a"])       = ["b", "a"]
+     *     ArrayUtils.removeElements(["a", "b", "a"], ["a", "a"])  = ["b"]
+     *     ArrayUtils.removeElements(["a", "b"], ["c"])            = ["a", "b"]
+     * </pre>
+     *
+     * @param array  要从中删除元素的数组，可能为null
+     * @param values 待删除的值，可能为null
+     * @return 删除指定值之后的新数组，如果array为null则返回null
+     */
+    public static Object[] removeElements(Object[] array, Object[] values) {
+        if (isEmpty(array) || isEmpty(values)) {
+            return clone(array);
+        }
+        // 统计每个待删除值需要删除的次数，键为待删除的值（可以为null），值为剩余需要删除的次数
+        ObjectIntMap counts = new ObjectIntMap(values.length);
+        for (int i = 0; i < values.length; i++) {
+            counts.put(values[i], counts.get(values[i], 0) + 1);
+        }
+        // 遍历一遍数组，标记每个值的前count次出现
+        BitSet marks = new BitSet(array.length);
+        for (int i = 0; i < array.length; i++) {
+            int count = counts.get(array[i], 0);
+            if (count > 0) {
+                counts.put(array[i], count - 1);
+                marks.set(i);
+            }
+        }
+        if (marks.isEmpty()) {
+            return clone(array);
+        }
+        Object[] result = (Object[]) Array.newInstance(array.getClass().getComponentType(), array.length - marks.cardinality());
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>从指定数组中一次性删除多个指定的值，剩余的元素依次向前（左）移动。</p>
+     * <p>values中的每个值只删除数组中的一次出现，并且从前往后删除；如果一个值在values中出现了多次，则删除相应次数的出现，
+     * 即结果与依次对每个值调用{@link #removeElement(boolean[], boolean)}相同，但只遍历数组一遍并且只复制一次。</p>
+     * <pre>
+     *     ArrayUtils.removeElements(null, [true])                      = null
+     *     ArrayUtils.removeElements([true, false, true], [true])       = [false, true]
+     *     ArrayUtils.removeElements([true, false, true], [true, true]) = [false]
+     * </pre>
+     *
+     * @param array  要从中删除元素的数组，可能为null
+     * @param values 待删除的值，可能为null
+     * @return 删除指定值之后的新数组，如果array为null则返回null
+     */
+    public static boolean[] removeElements(boolean[] array, boolean[] values) {
+        if (isEmpty(array) || isEmpty(values)) {
+            return clone(array);
+        }
+        // boolean只有两个取值，分别统计true和false需要删除的次数即可
+        int trueCount = 0;
+        int falseCount = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i]) {
+                trueCount++;
+            } else {
+                falseCount++;
+            }
+        }
+        BitSet marks = new BitSet(array.length);
+        for (int i = 0; i < array.length; i++) {
+            if (array[i]) {
+                if (trueCount > 0) {
+                    trueCount--;
+                    marks.set(i);
+                }
+            } else if (falseCount > 0) {
+                falseCount--;
+                marks.set(i);
+            }
+        }
+        if (marks.isEmpty()) {
+            return clone(array);
+        }
+        boolean[] result = new boolean[array.length - marks.cardinality()];
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>从指定数组中一次性删除多个指定的值，剩余的元素依次向前（左）移动。</p>
+     * <p>values中的每个值只删除数组中的一次出现，并且从前往后删除；如果一个值在values中出现了多次，则删除相应次数的出现，
+     * 即结果与依次对每个值调用{@link #removeElement(byte[], byte)}相同，但只遍历数组一遍并且只复制一次。</p>
+     * <pre>
+     *     ArrayUtils.removeElements(null, [1])          = null
+     *     ArrayUtils.removeElements([1, 3, 1], [1])     = [3, 1]
+     *     ArrayUtils.removeElements([1, 3, 1], [1, 1])  = [3]
+     *     ArrayUtils.removeElements([1, 3], [2])        = [1, 3]
+     * </pre>
+     *
+     * @param array  要从中删除元素的数组，可能为null
+     * @param values 待删除的值，可能为null
+     * @return 删除指定值之后的新数组，如果array为null则返回null
+     */
+    public static byte[] removeElements(byte[] array, byte[] values) {
+        if (isEmpty(array) || isEmpty(values)) {
+            return clone(array);
+        }
+        // 将待删除的值排序，合并相同的值并统计次数，之后对数组中的每个元素二分查找
+        byte[] sorted = clone(values);
+        int n = sorted.length;
+        Arrays.sort(sorted);
+        int distinctCount = 0;
+        int[] counts = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (distinctCount == 0 || sorted[i] != sorted[distinctCount - 1]) {
+                sorted[distinctCount++] = sorted[i];
+            }
+            counts[distinctCount - 1]++;
+        }
+        byte[] distinct = new byte[distinctCount];
+        System.arraycopy(sorted, 0, distinct, 0, distinctCount);
+        // 遍历一遍数组，标记每个值的前count次出现
+        BitSet marks = new BitSet(array.length);
+        for (int i = 0; i < array.length; i++) {
+            int index = Arrays.binarySearch(distinct, array[i]);
+            if (index >= 0 && counts[index] > 0) {
+                counts[index]--;
+                marks.set(i);
+            }
+        }
+        if (marks.isEmpty()) {
+            return clone(array);
+        }
+        byte[] result = new byte[array.length - marks.cardinality()];
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>从指定数组中一次性删除多个指定的值，剩余的元素依次向前（左）移动。</p>
+     * <p>values中的每个值只删除数组中的一次出现，并且从前往后删除；如果一个值在values中出现了多次，则删除相应次数的出现，
+     * 即结果与依次对每个值调用{@link #removeElement(char[], char)}相同，但只遍历数组一遍并且只复制一次。</p>
+     * <pre>
+     *     ArrayUtils.removeElements(null, [1])          = null
+     *     ArrayUtils.removeElements([1, 3, 1], [1])     = [3, 1]
+     *     ArrayUtils.removeElements([1, 3, 1], [1, 1])  = [3]
+     *     ArrayUtils.removeElements([1, 3], [2])        = [1, 3]
+     * </pre>
+     *
+     * @param array  要从中删除元素的数组，可能为null
+     * @param values 待删除的值，可能为null
+     * @return 删除指定值之后的新数组，如果array为null则返回null
+     */
+    public static char[] removeElements(char[] array, char[] values) {
+        if (isEmpty(array) || isEmpty(values)) {
+            return clone(array);
+        }
+        // 将待删除的值排序，合并相同的值并统计次数，之后对数组中的每个元素二分查找
+        char[] sorted = clone(values);
+        int n = sorted.length;
+        Arrays.sort(sorted);
+        int distinctCount = 0;
+        int[] counts = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (distinctCount == 0 || sorted[i] != sorted[distinctCount - 1]) {
+                sorted[distinctCount++] = sorted[i];
+            }
+            counts[distinctCount - 1]++;
+        }
+        char[] distinct = new char[distinctCount];
+        System.arraycopy(sorted, 0, distinct, 0, distinctCount);
+        // 遍历一遍数组，标记每个值的前count次出现
+        BitSet marks = new BitSet(array.length);
+        for (int i = 0; i < array.length; i++) {
+            int index = Arrays.binarySearch(distinct, array[i]);
+            if (index >= 0 && counts[index] > 0) {
+                counts[index]--;
+                marks.set(i);
+            }
+        }
+        if (marks.isEmpty()) {
+            return clone(array);
+        }
+        char[] result = new char[array.length - marks.cardinality()];
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>从指定数组中一次性删除多个指定的值，剩余的元素依次向前（左）移动。</p>
+     * <p>values中的每个值只删除数组中的一次出现，并且从前往后删除；如果一个值在values中出现了多次，则删除相应次数的出现，
+     * 即结果与依次对每个值调用{@link #removeElement(double[], double)}相同，但只遍历数组一遍并且只复制一次。</p>
+     * <p>与{@link #indexOf(double[], double)}一样使用"=="比较，所以NaN不会被删除，0.0和-0.0被视为相等。</p>
+     * <pre>
+     *     ArrayUtils.removeElements(null, [1])          = null
+     *     ArrayUtils.removeElements([1, 3, 1], [1])     = [3, 1]
+     *     ArrayUtils.removeElements([1, 3, 1], [1, 1])  = [3]
+     *     ArrayUtils.removeElements([1, 3], [2])        = [1, 3]
+     * </pre>
+     *
+     * @param array  要从中删除元素的数组，可能为null
+     * @param values 待删除的值，可能为null
+     * @return 删除指定值之后的新数组，如果array为null则返回null
+     */
+    public static double[] removeElements(double[] array, double[] values) {
+        if (isEmpty(array) || isEmpty(values)) {
+            return clone(array);
+        }
+        // 将待删除的值排序，合并相同的值并统计次数，之后对数组中的每个元素二分查找
+        // 与"=="的语义保持一致：NaN与任何值都不相等，直接忽略；-0.0与0.0相等，统一成0.0
+        double[] sorted = new double[values.length];
+        int n = 0;
+        for (int i = 0; i < values.length; i++) {
+            double value = values[i];
+            if (value == value) {
+                sorted[n++] = value == 0 ? 0 : value;
+            }
+        }
+        if (n == 0) {
+            return clone(array);
+        }
+        Arrays.sort(sorted, 0, n);
+        int distinctCount = 0;
+        int[] counts = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (distinctCount == 0 || sorted[i] != sorted[distinctCount - 1]) {
+                sorted[distinctCount++] = sorted[i];
+            }
+            counts[distinctCount - 1]++;
+        }
+        double[] distinct = new double[distinctCount];
+        System.arraycopy(sorted, 0, distinct, 0, distinctCount);
+        // 遍历一遍数组，标记每个值的前count次出现
+        BitSet marks = new BitSet(array.length);
+        for (int i = 0; i < array.length; i++) {
+            double element = array[i] == 0 ? 0 : array[i];
+            int index = Arrays.binarySearch(distinct, element);
+            if (index >= 0 && counts[index] > 0) {
+                counts[index]--;
+                marks.set(i);
+            }
+        }
+        if (marks.isEmpty()) {
+            return clone(array);
+        }
+        double[] result = new double[array.length - marks.cardinality()];
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>从指定数组中一次性删除多个指定的值，剩余的元素依次向前（左）移动。</p>
+     * <p>values中的每个值只删除数组中的一次出现，并且从前往后删除；如果一个值在values中出现了多次，则删除相应次数的出现，
+     * 即结果与依次对每个值调用{@link #removeElement(float[], float)}相同，但只遍历数组一遍并且只复制一次。</p>
+     * <p>与{@link #indexOf(float[], float)}一样使用"=="比较，所以NaN不会被删除，0.0和-0.0被视为相等。</p>
+     * <pre>
+     *     ArrayUtils.removeElements(null, [1])          = null
+     *     ArrayUtils.removeElements([1, 3, 1], [1])     = [3, 1]
+     *     ArrayUtils.removeElements([1, 3, 1], [1, 1])  = [3]
+     *     ArrayUtils.removeElements([1, 3], [2])        = [1, 3]
+     * </pre>
+     *
+     * @param array  要从中删除元素的数组，可能为null
+     * @param values 待删除的值，可能为null
+     * @return 删除指定值之后的新数组，如果array为null则返回null
+     */
+    public static float[] removeElements(float[] array, float[] values) {
+        if (isEmpty(array) || isEmpty(values)) {
+            return clone(array);
+        }
+        // 将待删除的值排序，合并相同的值并统计次数，之后对数组中的每个元素二分查找
+        // 与"=="的语义保持一致：NaN与任何值都不相等，直接忽略；-0.0与0.0相等，统一成0.0
+        float[] sorted = new float[values.length];
+        int n = 0;
+        for (int i = 0; i < values.length; i++) {
+            float value = values[i];
+            if (value == value) {
+                sorted[n++] = value == 0 ? 0 : value;
+            }
+        }
+        if (n == 0) {
+            return clone(array);
+        }
+        Arrays.sort(sorted, 0, n);
+        int distinctCount = 0;
+        int[] counts = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (distinctCount == 0 || sorted[i] != sorted[distinctCount - 1]) {
+                sorted[distinctCount++] = sorted[i];
+            }
+            counts[distinctCount - 1]++;
+        }
+        float[] distinct = new float[distinctCount];
+        System.arraycopy(sorted, 0, distinct, 0, distinctCount);
+        // 遍历一遍数组，标记每个值的前count次出现
+        BitSet marks = new BitSet(array.length);
+        for (int i = 0; i < array.length; i++) {
+            float element = array[i] == 0 ? 0 : array[i];
+            int index = Arrays.binarySearch(distinct, element);
+            if (index >= 0 && counts[index] > 0) {
+                counts[index]--;
+                marks.set(i);
+            }
+        }
+        if (marks.isEmpty()) {
+            return clone(array);
+        }
+        float[] result = new float[array.length - marks.cardinality()];
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>从指定数组中一次性删除多个指定的值，剩余的元素依次向前（左）移动。</p>
+     * <p>values中的每个值只删除数组中的一次出现，并且从前往后删除；如果一个值在values中出现了多次，则删除相应次数的出现，
+     * 即结果与依次对每个值调用{@link #removeElement(int[], int)}相同，但只遍历数组一遍并且只复制一次。</p>
+     * <pre>
+     *     ArrayUtils.removeElements(null, [1])          = null
+     *     ArrayUtils.removeElements([1, 3, 1], [1])     = [3, 1]
+     *     ArrayUtils.removeElements([1, 3, 1], [1, 1])  = [3]
+     *     ArrayUtils.removeElements([1, 3], [2])        = [1, 3]
+     * </pre>
+     *
+     * @param array  要从中删除元素的数组，可能为null
+     * @param values 待删除的值，可能为null
+     * @return 删除指定值之后的新数组，如果array为null则返回null
+     */
+    public static int[] removeElements(int[] array, int[] values) {
+        if (isEmpty(array) || isEmpty(values)) {
+            return clone(array);
+        }
+        // 将待删除的值排序，合并相同的值并统计次数，之后对数组中的每个元素二分查找
+        int[] sorted = clone(values);
+        int n = sorted.length;
+        Arrays.sort(sorted);
+        int distinctCount = 0;
+        int[] counts = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (distinctCount == 0 || sorted[i] != sorted[distinctCount - 1]) {
+                sorted[distinctCount++] = sorted[i];
+            }
+            counts[distinctCount - 1]++;
+        }
+        int[] distinct = new int[distinctCount];
+        System.arraycopy(sorted, 0, distinct, 0, distinctCount);
+        // 遍历一遍数组，标记每个值的前count次出现
+        BitSet marks = new BitSet(array.length);
+        for (int i = 0; i < array.length; i++) {
+            int index = Arrays.binarySearch(distinct, array[i]);
+            if (index >= 0 && counts[index] > 0) {
+                counts[index]--;
+                marks.set(i);
+            }
+        }
+        if (marks.isEmpty()) {
+            return clone(array);
+        }
+        int[] result = new int[array.length - marks.cardinality()];
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>从指定数组中一次性删除多个指定的值，剩余的元素依次向前（左）移动。</p>
+     * <p>values中的每个值只删除数组中的一次出现，并且从前往后删除；如果一个值在values中出现了多次，则删除相应次数的出现，
+     * 即结果与依次对每个值调用{@link #removeElement(long[], long)}相同，但只遍历数组一遍并且只复制一次。</p>
+     * <pre>
+     *     ArrayUtils.removeElements(null, [1])          = null
+     *     ArrayUtils.removeElements([1, 3, 1], [1])     = [3, 1]
+     *     ArrayUtils.removeElements([1, 3, 1], [1, 1])  = [3]
+     *     ArrayUtils.removeElements([1, 3], [2])        = [1, 3]
+     * </pre>
+     *
+     * @param array  要从中删除元素的数组，可能为null
+     * @param values 待删除的值，可能为null
+     * @return 删除指定值之后的新数组，如果array为null则返回null
+     */
+    public static long[] removeElements(long[] array, long[] values) {
+        if (isEmpty(array) || isEmpty(values)) {
+            return clone(array);
+        }
+        // 将待删除的值排序，合并相同的值并统计次数，之后对数组中的每个元素二分查找
+        long[] sorted = clone(values);
+        int n = sorted.length;
+        Arrays.sort(sorted);
+        int distinctCount = 0;
+        int[] counts = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (distinctCount == 0 || sorted[i] != sorted[distinctCount - 1]) {
+                sorted[distinctCount++] = sorted[i];
+            }
+            counts[distinctCount - 1]++;
+        }
+        long[] distinct = new long[distinctCount];
+        System.arraycopy(sorted, 0, distinct, 0, distinctCount);
+        // 遍历一遍数组，标记每个值的前count次出现
+        BitSet marks = new BitSet(array.length);
+        for (int i = 0; i < array.length; i++) {
+            int index = Arrays.binarySearch(distinct, array[i]);
+            if (index >= 0 && counts[index] > 0) {
+                counts[index]--;
+                marks.set(i);
+            }
+        }
+        if (marks.isEmpty()) {
+            return clone(array);
+        }
+        long[] result = new long[array.length - marks.cardinality()];
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>从指定数组中一次性删除多个指定的值，剩余的元素依次向前（左）移动。</p>
+     * <p>values中的每个值只删除数组中的一次出现，并且从前往后删除；如果一个值在values中出现了多次，则删除相应次数的出现，
+     * 即结果与依次对每个值调用{@link #removeElement(short[], short)}相同，但只遍历数组一遍并且只复制一次。</p>
+     * <pre>
+     *     ArrayUtils.removeElements(null, [1])          = null
+     *     ArrayUtils.removeElements([1, 3, 1], [1])     = [3, 1]
+     *     ArrayUtils.removeElements([1, 3, 1], [1, 1])  = [3]
+     *     ArrayUtils.removeElements([1, 3], [2])        = [1, 3]
+     * </pre>
+     *
+     * @param array  要从中删除元素的数组，可能为null
+     * @param values 待删除的值，可能为null
+     * @return 删除指定值之后的新数组，如果array为null则返回null
+     */
+    public static short[] removeElements(short[] array, short[] values) {
+        if (isEmpty(array) || isEmpty(values)) {
+            return clone(array);
+        }
+        // 将待删除的值排序，合并相同的值并统计次数，之后对数组中的每个元素二分查找
+        short[] sorted = clone(values);
+        int n = sorted.length;
+        Arrays.sort(sorted);
+        int distinctCount = 0;
+        int[] counts = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (distinctCount == 0 || sorted[i] != sorted[distinctCount - 1]) {
+                sorted[distinctCount++] = sorted[i];
+            }
+            counts[distinctCount - 1]++;
+        }
+        short[] distinct = new short[distinctCount];
+        System.arraycopy(sorted, 0, distinct, 0, distinctCount);
+        // 遍历一遍数组，标记每个值的前count次出现
+        BitSet marks = new BitSet(array.length);
+        for (int i = 0; i < array.length; i++) {
+            int index = Arrays.binarySearch(distinct, array[i]);
+            if (index >= 0 && counts[index] > 0) {
+                counts[index]--;
+                marks.set(i);
+            }
+        }
+        if (marks.isEmpty()) {
+            return clone(array);
+        }
+        short[] result = new short[array.length - marks.cardinality()];
+        copyUnmarked(array, array.length, marks, result);
+        return result;
+    }
+
+    /**
+     * <p>将待删除的索引标记到位图中，供{@code removeAll()}使用。</p>
+     *
+     * @param length  数组的长度
+     * @param indices 待删除的索引，可能为null
+     * @return 标记了待删除索引的位图，如果没有待删除的索引则返回null
+     * @throws IndexOutOfBoundsException 如果有索引超出范围（index < 0 || index >= length）
+     */
+    private static BitSet markIndices(int length, int[] indices) {
+        if (indices == null || indices.length == 0) {
+            return null;
+        }
+        BitSet marks = new BitSet(length);
+        for (int i = 0; i < indices.length; i++) {
+            int index = indices[i];
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+            }
+            marks.set(index);
+        }
+        return marks;
+    }
+
+    /**
+     * <p>将源数组中没有被标记的元素依次复制到目标数组中，连续的未标记元素只调用一次System.arraycopy()。</p>
+     *
+     * @param source 源数组，不能为null
+     * @param length 源数组的长度
+     * @param marks  标记了待删除元素的位图
+     * @param target 目标数组，长度必须等于length减去被标记的元素个数
+     */
+    private static void copyUnmarked(Object source, int length, BitSet marks, Object target) {
+        int from = 0;
+        int to = 0;
+        for (int marked = marks.nextSetBit(0); marked >= 0; marked = marks.nextSetBit(marked + 1)) {
+            // 复制上一个被标记的元素和当前被标记的元素之间的所有元素
+            int count = marked - from;
+            if (count > 0) {
+                System.arraycopy(source, from, target, to, count);
+                to += count;
+            }
+            from = marked + 1;
+        }
+        if (from < length) {
+            System.arraycopy(source, from, target, to, length - from);
+        }
+    }
+
+}
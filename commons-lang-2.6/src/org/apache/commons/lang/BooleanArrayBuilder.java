@@ -0,0 +1,199 @@
+package org.apache.commons.lang;
+
+/**
+ * <p>可增长的boolean数组构建器，用于在循环中逐个追加元素来构建boolean[]数组。</p>
+ * <p>{@link ArrayUtils#add(boolean[], boolean)}每次调用都会创建一个长度+1的新数组并复制全部元素，在循环中构建N个元素的数组需要O(N²)次复制，
+ * 并且会产生N个垃圾数组。而该类内部维护一个缓冲数组，容量不足时按1.5倍几何增长，所以追加操作的均摊时间复杂度为O(1)。</p>
+ * <pre>
+ *     BooleanArrayBuilder builder = new BooleanArrayBuilder();
+ *     for (int i = 0; i &lt; n; i++) {
+ *         builder.add(values[i]);
+ *     }
+ *     boolean[] result = builder.toArray();
+ * </pre>
+ * <p>非线程安全</p>
+ *
+ * @author lcl100
+ * @create 2026-10-17 09:12
+ */
+public class BooleanArrayBuilder {
+
+    /**
+     * 常量，未指定初始容量时使用的默认容量
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * 存放元素的缓冲数组，其长度就是当前容量
+     */
+    private boolean[] buffer;
+    /**
+     * 已经添加的元素个数，也是下一个元素的插入位置
+     */
+    private int size;
+
+    /**
+     * 构造方法，使用默认容量创建构建器。
+     */
+    public BooleanArrayBuilder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 构造方法，使用指定的初始容量创建构建器。如果预先知道元素个数，指定初始容量可以避免扩容。
+     *
+     * @param initialCapacity 初始容量
+     * @throws IllegalArgumentException 如果initialCapacity小于0
+     */
+    public BooleanArrayBuilder(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must not be negative: " + initialCapacity);
+        }
+        buffer = initialCapacity == 0 ? ArrayUtils.EMPTY_BOOLEAN_ARRAY : new boolean[initialCapacity];
+    }
+
+    /**
+     * 在末尾追加一个元素。
+     *
+     * @param element 待追加的元素
+     * @return 当前构建器，便于链式调用
+     */
+    public BooleanArrayBuilder add(boolean element) {
+        if (size == buffer.length) {
+            grow(size + 1);
+        }
+        buffer[size++] = element;
+        return this;
+    }
+
+    /**
+     * 在末尾追加数组中的所有元素，只扩容一次并调用一次System.arraycopy()。
+     *
+     * @param array 待追加的数组，可能为null，为null时不做任何操作
+     * @return 当前构建器，便于链式调用
+     */
+    public BooleanArrayBuilder addAll(boolean[] array) {
+        if (array == null) {
+            return this;
+        }
+        return addAll(array, 0, array.length);
+    }
+
+    /**
+     * 在末尾追加数组中[offset, offset+length)范围内的元素。
+     *
+     * @param array  待追加的数组，不能为null
+     * @param offset 开始复制的索引位置
+     * @param length 要复制的元素个数
+     * @return 当前构建器，便于链式调用
+     * @throws IndexOutOfBoundsException 如果offset或length越界
+     */
+    public BooleanArrayBuilder addAll(boolean[] array, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > array.length - length) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Length: " + length + ", Array length: " + array.length);
+        }
+        // 用减法比较，避免size + length溢出为负数时跳过扩容，溢出由grow()统一处理
+        if (length > buffer.length - size) {
+            grow(size + length);
+        }
+        System.arraycopy(array, offset, buffer, size, length);
+        size += length;
+        return this;
+    }
+
+    /**
+     * 获取指定索引位置的元素。
+     *
+     * @param index 索引位置
+     * @return 该位置上的元素
+     * @throws IndexOutOfBoundsException 如果索引超出范围（index < 0 || index >= size()）
+     */
+    public boolean get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return buffer[index];
+    }
+
+    /**
+     * 获取已经添加的元素个数。
+     *
+     * @return 元素个数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 判断构建器中是否还没有任何元素。
+     *
+     * @return 如果没有元素则返回true
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 清空所有元素，但保留已分配的缓冲数组以便复用。
+     *
+     * @return 当前构建器，便于链式调用
+     */
+    public BooleanArrayBuilder clear() {
+        size = 0;
+        return this;
+    }
+
+    /**
+     * <p>返回包含所有已添加元素的新数组，长度等于{@link #size()}。构建器本身不受影响，可以继续添加元素。</p>
+     * <p>当没有元素时返回{@link ArrayUtils#EMPTY_BOOLEAN_ARRAY}常量。</p>
+     *
+     * @return 新的boolean[]数组
+     */
+    public boolean[] toArray() {
+        if (size == 0) {
+            return ArrayUtils.EMPTY_BOOLEAN_ARRAY;
+        }
+        boolean[] result = new boolean[size];
+        System.arraycopy(buffer, 0, result, 0, size);
+        return result;
+    }
+
+    /**
+     * <p>返回长度恰好等于{@link #size()}的数组，并将构建器重置为空。</p>
+     * <p>与{@link #toArray()}不同，如果缓冲数组的容量恰好等于元素个数，则直接交出缓冲数组而不再复制一次。
+     * 因为缓冲数组的所有权已经交给了调用者，所以构建器会被重置，之后添加的元素不会影响返回的数组。</p>
+     *
+     * @return 长度等于元素个数的boolean[]数组
+     */
+    public boolean[] trimmed() {
+        boolean[] result;
+        if (size == buffer.length) {
+            result = size == 0 ? ArrayUtils.EMPTY_BOOLEAN_ARRAY : buffer;
+        } else {
+            result = toArray();
+        }
+        buffer = ArrayUtils.EMPTY_BOOLEAN_ARRAY;
+        size = 0;
+        return result;
+    }
+
+    /**
+     * 扩容，新容量为原容量的1.5倍，如果仍不足则直接使用所需的最小容量。
+     *
+     * @param minCapacity 所需的最小容量
+     */
+    private void grow(int minCapacity) {
+        if (minCapacity < 0) {
+            // 整数溢出，元素个数已经超过了数组所能容纳的最大长度
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        int newCapacity = buffer.length + (buffer.length >> 1);
+        if (newCapacity < minCapacity) {
+            newCapacity = Math.max(minCapacity, DEFAULT_CAPACITY);
+        }
+        boolean[] newBuffer = new boolean[newCapacity];
+        System.arraycopy(buffer, 0, newBuffer, 0, size);
+        buffer = newBuffer;
+    }
+
+}
@@ -0,0 +1,249 @@
+package org.apache.commons.lang;
+
+/**
+ * <p>double[]数组的窗口视图，即底层数组从offset开始的length个元素。</p>
+ * <p>{@link ArrayUtils#subarray(double[], int, int)}每次都会创建新数组并复制元素，而该类只保存底层数组的引用、起始偏移量和长度，
+ * 创建一个窗口除了视图对象本身之外不需要任何额外的内存分配。只有在调用{@link #toArray()}时才会真正复制元素。</p>
+ * <pre>
+ *     DoubleSlice window = new DoubleSlice(buffer, 100, 200);
+ *     if (window.contains(4.2)) {
+ *         double[] copy = window.toArray();
+ *     }
+ * </pre>
+ * <p>注意，视图与底层数组共享数据：对底层数组的修改会反映到视图上，调用{@link #reverse()}也会修改底层数组中对应范围的元素。</p>
+ * <p>非线程安全</p>
+ *
+ * @author lcl100
+ * @create 2026-10-17 16:05
+ */
+public final class DoubleSlice {
+
+    /**
+     * 底层数组
+     */
+    private final double[] array;
+    /**
+     * 视图在底层数组中的起始索引
+     */
+    private final int offset;
+    /**
+     * 视图中的元素个数
+     */
+    private final int length;
+
+    /**
+     * 构造方法，创建覆盖整个数组的视图。
+     *
+     * @param array 底层数组，不能为null
+     * @throws IllegalArgumentException 如果array为null
+     */
+    public DoubleSlice(double[] array) {
+        this(array, 0, array == null ? 0 : array.length);
+    }
+
+    /**
+     * 构造方法，创建覆盖底层数组[startIndexInclusive, endIndexExclusive)范围的视图，范围的含义与{@link ArrayUtils#subarray(double[], int, int)}相同。
+     *
+     * @param array               底层数组，不能为null
+     * @param startIndexInclusive 起始索引（包含）
+     * @param endIndexExclusive   结束索引（不包含）
+     * @throws IllegalArgumentException  如果array为null
+     * @throws IndexOutOfBoundsException 如果范围越界（startIndexInclusive < 0 || endIndexExclusive > array.length || startIndexInclusive > endIndexExclusive）
+     */
+    public DoubleSlice(double[] array, int startIndexInclusive, int endIndexExclusive) {
+        if (array == null) {
+            throw new IllegalArgumentException("The array must not be null");
+        }
+        if (startIndexInclusive < 0 || endIndexExclusive > array.length || startIndexInclusive > endIndexExclusive) {
+            throw new IndexOutOfBoundsException("Start: " + startIndexInclusive + ", End: " + endIndexExclusive
+                    + ", Length: " + array.length);
+        }
+        this.array = array;
+        this.offset = startIndexInclusive;
+        this.length = endIndexExclusive - startIndexInclusive;
+    }
+
+    /**
+     * 获取视图中的元素个数。
+     *
+     * @return 元素个数
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * 判断视图中是否没有任何元素。
+     *
+     * @return 如果没有元素则返回true
+     */
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * 获取视图中指定索引位置的元素，索引从0开始，相对于视图而不是底层数组。
+     *
+     * @param index 视图中的索引
+     * @return 该位置上的元素
+     * @throws IndexOutOfBoundsException 如果索引超出范围（index < 0 || index >= length()）
+     */
+    public double get(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        }
+        return array[offset + index];
+    }
+
+    /**
+     * 在当前视图的基础上创建一个更小的视图，同样不会复制元素。
+     *
+     * @param startIndexInclusive 相对于当前视图的起始索引（包含）
+     * @param endIndexExclusive   相对于当前视图的结束索引（不包含）
+     * @return 新的视图
+     * @throws IndexOutOfBoundsException 如果范围越界
+     */
+    public DoubleSlice slice(int startIndexInclusive, int endIndexExclusive) {
+        if (startIndexInclusive < 0 || endIndexExclusive > length || startIndexInclusive > endIndexExclusive) {
+            throw new IndexOutOfBoundsException("Start: " + startIndexInclusive + ", End: " + endIndexExclusive
+                    + ", Length: " + length);
+        }
+        return new DoubleSlice(array, offset + startIndexInclusive, offset + endIndexExclusive);
+    }
+
+    /**
+     * 查找给定值在视图中第一次出现的索引，与{@link ArrayUtils#indexOf(double[], double)}语义相同。
+     *
+     * @param valueToFind 要查找的值
+     * @return 相对于视图的索引，如果未找到则返回{@link ArrayUtils#INDEX_NOT_FOUND}，即-1
+     */
+    public int indexOf(double valueToFind) {
+        return indexOf(valueToFind, 0);
+    }
+
+    /**
+     * 从视图的指定索引开始查找给定值第一次出现的索引，与{@link ArrayUtils#indexOf(double[], double, int)}语义相同，startIndex为负数时提升为0。
+     *
+     * @param valueToFind 要查找的值
+     * @param startIndex  相对于视图的起始索引
+     * @return 相对于视图的索引，如果未找到则返回{@link ArrayUtils#INDEX_NOT_FOUND}，即-1
+     */
+    public int indexOf(double valueToFind, int startIndex) {
+        if (startIndex < 0) {
+            startIndex = 0;
+        }
+        if (startIndex >= length) {
+            // 提前返回，否则offset + startIndex可能溢出为负数
+            return ArrayUtils.INDEX_NOT_FOUND;
+        }
+        int end = offset + length;
+        for (int i = offset + startIndex; i < end; i++) {
+            if (valueToFind == array[i]) {
+                return i - offset;
+            }
+        }
+        return ArrayUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * 判断视图中是否包含给定值。
+     *
+     * @param valueToFind 要查找的值
+     * @return 如果包含则返回true
+     */
+    public boolean contains(double valueToFind) {
+        return indexOf(valueToFind) != ArrayUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * 反转视图中元素的顺序，底层数组中对应范围内的元素会被修改，范围外的元素不受影响。
+     */
+    public void reverse() {
+        int i = offset;
+        int j = offset + length - 1;
+        double tmp;
+        while (j > i) {
+            tmp = array[j];
+            array[j] = array[i];
+            array[i] = tmp;
+            j--;
+            i++;
+        }
+    }
+
+    /**
+     * 将视图中的元素复制到一个新数组中，与{@link ArrayUtils#subarray(double[], int, int)}的结果相同。
+     *
+     * @return 新的double[]数组，如果视图为空则返回{@link ArrayUtils#EMPTY_DOUBLE_ARRAY}
+     */
+    public double[] toArray() {
+        if (length == 0) {
+            return ArrayUtils.EMPTY_DOUBLE_ARRAY;
+        }
+        double[] result = new double[length];
+        System.arraycopy(array, offset, result, 0, length);
+        return result;
+    }
+
+    /**
+     * 计算视图的hashCode值，与对{@link #toArray()}的结果调用{@link ArrayUtils#hashCode(Object)}得到的值相同。
+     *
+     * @return hashCode值
+     */
+    public int hashCode() {
+        int total = 17;
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            long bits = Double.doubleToLongBits(array[i]);
+            total = total * 37 + (int) (bits ^ (bits >> 32));
+        }
+        return total;
+    }
+
+    /**
+     * 判断两个视图中的元素是否逐个相等，不要求底层数组或偏移量相同。
+     *
+     * @param obj 待比较的对象
+     * @return 如果obj也是DoubleSlice并且元素逐个相等则返回true
+     */
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DoubleSlice)) {
+            return false;
+        }
+        DoubleSlice other = (DoubleSlice) obj;
+        if (other.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            // 与EqualsBuilder一致，按doubleToLongBits()比较，所以NaN与NaN相等，0.0与-0.0不相等
+            if (Double.doubleToLongBits(array[offset + i]) != Double.doubleToLongBits(other.array[other.offset + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 将视图输出为字符串，格式与{@link ArrayUtils#toString(Object)}相同，例如：{1.0,2.0,3.0}。
+     *
+     * @return 视图的字符串表示
+     */
+    public String toString() {
+        // 初始容量最多按65536个元素估算，避免length很大时length * 4溢出为负数
+        StringBuffer buffer = new StringBuffer(Math.min(length, 1 << 16) * 4 + 2);
+        buffer.append('{');
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (i > offset) {
+                buffer.append(',');
+            }
+            buffer.append(array[i]);
+        }
+        buffer.append('}');
+        return buffer.toString();
+    }
+
+}
@@ -0,0 +1,415 @@
+package org.apache.commons.lang;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * <p>用于高频拒绝路径的参数校验工具类，校验规则与{@link Validate}相同，但失败时的开销更小。</p>
+ * <p>{@link Validate}校验失败时抛出的{@link IllegalArgumentException}会记录完整的异常堆栈。当校验失败是一种正常的控制流，
+ * 例如网关每秒拒绝几千个非法请求时，填充堆栈的开销远远超过了校验本身。该类为每种校验提供了三种形式：</p>
+ * <ul>
+ *     <li>isTrue、notNull等(..., String message)：失败时抛出不记录堆栈的{@link FastValidationException}</li>
+ *     <li>isTrue、notNull等(..., FastValidationException failure)：失败时抛出调用者预先创建好的异常，不创建任何对象</li>
+ *     <li>checkTrue、checkNotNull等(..., int statusCode)：不抛出异常，返回{@link #OK}或者指定的状态码</li>
+ * </ul>
+ * <pre>
+ *     private static final FastValidationException MISSING_ID = new FastValidationException("id is required", 400);
+ *
+ *     FastValidate.notEmpty(request.getId(), MISSING_ID);
+ *     int status = FastValidate.checkNotNull(request.getBody(), 422);
+ * </pre>
+ * <p>可以通过{@link #setStackTraceEnabled(boolean)}临时打开堆栈记录，用于调试或者对比两种方式的CPU开销。</p>
+ * <p>线程安全</p>
+ *
+ * @author lcl100
+ * @create 2026-10-18 21:20
+ */
+public class FastValidate {
+
+    /**
+     * 常量，校验通过时返回的状态码
+     */
+    public static final int OK = 0;
+
+    /**
+     * 常量，没有指定状态码时{@link FastValidationException}使用的状态码
+     */
+    public static final int INVALID = 1;
+
+    /**
+     * FastValidationException是否记录异常堆栈，默认不记录
+     */
+    private static volatile boolean stackTraceEnabled = false;
+
+    /**
+     * <p><code>FastValidate</code>实例对象不应该被创建，相反，该类应该直接调用静态方法，如<code>FastValidate.notNull(obj, "obj is null");</code></p>
+     */
+    public FastValidate() {
+        super();
+    }
+
+    /**
+     * 判断{@link FastValidationException}是否记录异常堆栈。
+     *
+     * @return 如果记录则返回true
+     */
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    /**
+     * <p>设置{@link FastValidationException}是否记录异常堆栈，只影响之后创建的异常。</p>
+     * <p>打开后异常的行为与普通的IllegalArgumentException相同，便于调试，也可以用来测量不记录堆栈节省的CPU开销。</p>
+     *
+     * @param enabled 如果为true则记录异常堆栈
+     */
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
+
+    // isTrue
+    //-----------------------------------------------------------------------
+
+    /**
+     * <p>与{@link Validate#isTrue(boolean, String)}相同，但校验失败时抛出的是不记录堆栈的{@link FastValidationException}，状态码为{@link #INVALID}。</p>
+     * <pre>
+     *     FastValidate.isTrue(index >= 0, "index must not be negative");
+     * </pre>
+     *
+     * @param expression 待校验的布尔表达式
+     * @param message 异常消息
+     * @throws FastValidationException 如果表达式为false
+     */
+    public static void isTrue(boolean expression, String message) {
+        if (expression == false) {
+            throw new FastValidationException(message);
+        }
+    }
+
+    /**
+     * <p>校验失败时抛出调用者预先创建好的异常，整个校验过程不创建任何对象。</p>
+     *
+     * @param expression 待校验的布尔表达式
+     * @param failure 校验失败时抛出的异常，不能为null
+     * @throws FastValidationException 如果表达式为false
+     */
+    public static void isTrue(boolean expression, FastValidationException failure) {
+        if (expression == false) {
+            throw failure;
+        }
+    }
+
+    /**
+     * <p>校验但不抛出异常，而是返回状态码，适合把校验结果直接映射为响应码的场景。</p>
+     *
+     * @param expression 待校验的布尔表达式
+     * @param statusCode 校验失败时返回的状态码
+     * @return 如果表达式为true则返回{@link #OK}，否则返回statusCode
+     */
+    public static int checkTrue(boolean expression, int statusCode) {
+        return expression == false ? statusCode : OK;
+    }
+
+    // notNull
+    //-----------------------------------------------------------------------
+
+    /**
+     * <p>与{@link Validate#notNull(Object, String)}相同，但校验失败时抛出的是不记录堆栈的{@link FastValidationException}，状态码为{@link #INVALID}。</p>
+     * <pre>
+     *     FastValidate.notNull(request, "request is null");
+     * </pre>
+     *
+     * @param object 待校验的对象
+     * @param message 异常消息
+     * @throws FastValidationException 如果对象为null
+     */
+    public static void notNull(Object object, String message) {
+        if (object == null) {
+            throw new FastValidationException(message);
+        }
+    }
+
+    /**
+     * <p>校验失败时抛出调用者预先创建好的异常，整个校验过程不创建任何对象。</p>
+     *
+     * @param object 待校验的对象
+     * @param failure 校验失败时抛出的异常，不能为null
+     * @throws FastValidationException 如果对象为null
+     */
+    public static void notNull(Object object, FastValidationException failure) {
+        if (object == null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * <p>校验但不抛出异常，而是返回状态码，适合把校验结果直接映射为响应码的场景。</p>
+     *
+     * @param object 待校验的对象
+     * @param statusCode 校验失败时返回的状态码
+     * @return 如果对象不为null则返回{@link #OK}，否则返回statusCode
+     */
+    public static int checkNotNull(Object object, int statusCode) {
+        return object == null ? statusCode : OK;
+    }
+
+    // notEmpty
+    //-----------------------------------------------------------------------
+
+    /**
+     * <p>与{@link Validate#notEmpty(Object[], String)}相同，但校验失败时抛出的是不记录堆栈的{@link FastValidationException}，状态码为{@link #INVALID}。</p>
+     *
+     * @param array 待校验的数组
+     * @param message 异常消息
+     * @throws FastValidationException 如果数组为null或者长度为0
+     */
+    public static void notEmpty(Object[] array, String message) {
+        if (array == null || array.length == 0) {
+            throw new FastValidationException(message);
+        }
+    }
+
+    /**
+     * <p>校验失败时抛出调用者预先创建好的异常，整个校验过程不创建任何对象。</p>
+     *
+     * @param array 待校验的数组
+     * @param failure 校验失败时抛出的异常，不能为null
+     * @throws FastValidationException 如果数组为null或者长度为0
+     */
+    public static void notEmpty(Object[] array, FastValidationException failure) {
+        if (array == null || array.length == 0) {
+            throw failure;
+        }
+    }
+
+    /**
+     * <p>校验但不抛出异常，而是返回状态码，适合把校验结果直接映射为响应码的场景。</p>
+     *
+     * @param array 待校验的数组
+     * @param statusCode 校验失败时返回的状态码
+     * @return 如果数组不为空则返回{@link #OK}，否则返回statusCode
+     */
+    public static int checkNotEmpty(Object[] array, int statusCode) {
+        return (array == null || array.length == 0) ? statusCode : OK;
+    }
+
+    /**
+     * <p>与{@link Validate#notEmpty(Collection, String)}相同，但校验失败时抛出的是不记录堆栈的{@link FastValidationException}，状态码为{@link #INVALID}。</p>
+     *
+     * @param collection 待校验的集合
+     * @param message 异常消息
+     * @throws FastValidationException 如果集合为null或者没有元素
+     */
+    public static void notEmpty(Collection collection, String message) {
+        if (collection == null || collection.size() == 0) {
+            throw new FastValidationException(message);
+        }
+    }
+
+    /**
+     * <p>校验失败时抛出调用者预先创建好的异常，整个校验过程不创建任何对象。</p>
+     *
+     * @param collection 待校验的集合
+     * @param failure 校验失败时抛出的异常，不能为null
+     * @throws FastValidationException 如果集合为null或者没有元素
+     */
+    public static void notEmpty(Collection collection, FastValidationException failure) {
+        if (collection == null || collection.size() == 0) {
+            throw failure;
+        }
+    }
+
+    /**
+     * <p>校验但不抛出异常，而是返回状态码，适合把校验结果直接映射为响应码的场景。</p>
+     *
+     * @param collection 待校验的集合
+     * @param statusCode 校验失败时返回的状态码
+     * @return 如果集合不为空则返回{@link #OK}，否则返回statusCode
+     */
+    public static int checkNotEmpty(Collection collection, int statusCode) {
+        return (collection == null || collection.size() == 0) ? statusCode : OK;
+    }
+
+    /**
+     * <p>与{@link Validate#notEmpty(Map, String)}相同，但校验失败时抛出的是不记录堆栈的{@link FastValidationException}，状态码为{@link #INVALID}。</p>
+     *
+     * @param map 待校验的Map集合
+     * @param message 异常消息
+     * @throws FastValidationException 如果Map集合为null或者没有元素
+     */
+    public static void notEmpty(Map map, String message) {
+        if (map == null || map.size() == 0) {
+            throw new FastValidationException(message);
+        }
+    }
+
+    /**
+     * <p>校验失败时抛出调用者预先创建好的异常，整个校验过程不创建任何对象。</p>
+     *
+     * @param map 待校验的Map集合
+     * @param failure 校验失败时抛出的异常，不能为null
+     * @throws FastValidationException 如果Map集合为null或者没有元素
+     */
+    public static void notEmpty(Map map, FastValidationException failure) {
+        if (map == null || map.size() == 0) {
+            throw failure;
+        }
+    }
+
+    /**
+     * <p>校验但不抛出异常，而是返回状态码，适合把校验结果直接映射为响应码的场景。</p>
+     *
+     * @param map 待校验的Map集合
+     * @param statusCode 校验失败时返回的状态码
+     * @return 如果Map集合不为空则返回{@link #OK}，否则返回statusCode
+     */
+    public static int checkNotEmpty(Map map, int statusCode) {
+        return (map == null || map.size() == 0) ? statusCode : OK;
+    }
+
+    /**
+     * <p>与{@link Validate#notEmpty(String, String)}相同，但校验失败时抛出的是不记录堆栈的{@link FastValidationException}，状态码为{@link #INVALID}。</p>
+     *
+     * @param string 待校验的字符串
+     * @param message 异常消息
+     * @throws FastValidationException 如果字符串为null或者为""
+     */
+    public static void notEmpty(String string, String message) {
+        if (string == null || string.length() == 0) {
+            throw new FastValidationException(message);
+        }
+    }
+
+    /**
+     * <p>校验失败时抛出调用者预先创建好的异常，整个校验过程不创建任何对象。</p>
+     *
+     * @param string 待校验的字符串
+     * @param failure 校验失败时抛出的异常，不能为null
+     * @throws FastValidationException 如果字符串为null或者为""
+     */
+    public static void notEmpty(String string, FastValidationException failure) {
+        if (string == null || string.length() == 0) {
+            throw failure;
+        }
+    }
+
+    /**
+     * <p>校验但不抛出异常，而是返回状态码，适合把校验结果直接映射为响应码的场景。</p>
+     *
+     * @param string 待校验的字符串
+     * @param statusCode 校验失败时返回的状态码
+     * @return 如果字符串不为空则返回{@link #OK}，否则返回statusCode
+     */
+    public static int checkNotEmpty(String string, int statusCode) {
+        return (string == null || string.length() == 0) ? statusCode : OK;
+    }
+
+    // noNullElements
+    //-----------------------------------------------------------------------
+
+    /**
+     * <p>与{@link Validate#noNullElements(Object[], String)}相同，但校验失败时抛出的是不记录堆栈的{@link FastValidationException}，状态码为{@link #INVALID}。</p>
+     *
+     * @param array 待校验的数组
+     * @param message 异常消息
+     * @throws FastValidationException 如果数组为null或者包含null元素
+     */
+    public static void noNullElements(Object[] array, String message) {
+        if (array == null || hasNullElement(array)) {
+            throw new FastValidationException(message);
+        }
+    }
+
+    /**
+     * <p>校验失败时抛出调用者预先创建好的异常，整个校验过程不创建任何对象。</p>
+     *
+     * @param array 待校验的数组
+     * @param failure 校验失败时抛出的异常，不能为null
+     * @throws FastValidationException 如果数组为null或者包含null元素
+     */
+    public static void noNullElements(Object[] array, FastValidationException failure) {
+        if (array == null || hasNullElement(array)) {
+            throw failure;
+        }
+    }
+
+    /**
+     * <p>校验但不抛出异常，而是返回状态码，适合把校验结果直接映射为响应码的场景。</p>
+     *
+     * @param array 待校验的数组
+     * @param statusCode 校验失败时返回的状态码
+     * @return 如果数组不为null并且不包含null元素则返回{@link #OK}，否则返回statusCode
+     */
+    public static int checkNoNullElements(Object[] array, int statusCode) {
+        return (array == null || hasNullElement(array)) ? statusCode : OK;
+    }
+
+    /**
+     * <p>与{@link Validate#noNullElements(Collection, String)}相同，但校验失败时抛出的是不记录堆栈的{@link FastValidationException}，状态码为{@link #INVALID}。</p>
+     *
+     * @param collection 待校验的集合
+     * @param message 异常消息
+     * @throws FastValidationException 如果集合为null或者包含null元素
+     */
+    public static void noNullElements(Collection collection, String message) {
+        if (collection == null || hasNullElement(collection)) {
+            throw new FastValidationException(message);
+        }
+    }
+
+    /**
+     * <p>校验失败时抛出调用者预先创建好的异常，整个校验过程不创建任何对象。</p>
+     *
+     * @param collection 待校验的集合
+     * @param failure 校验失败时抛出的异常，不能为null
+     * @throws FastValidationException 如果集合为null或者包含null元素
+     */
+    public static void noNullElements(Collection collection, FastValidationException failure) {
+        if (collection == null || hasNullElement(collection)) {
+            throw failure;
+        }
+    }
+
+    /**
+     * <p>校验但不抛出异常，而是返回状态码，适合把校验结果直接映射为响应码的场景。</p>
+     *
+     * @param collection 待校验的集合
+     * @param statusCode 校验失败时返回的状态码
+     * @return 如果集合不为null并且不包含null元素则返回{@link #OK}，否则返回statusCode
+     */
+    public static int checkNoNullElements(Collection collection, int statusCode) {
+        return (collection == null || hasNullElement(collection)) ? statusCode : OK;
+    }
+
+    /**
+     * 判断数组中是否包含null元素。
+     *
+     * @param array 数组，不能为null
+     * @return 如果包含null元素则返回true
+     */
+    private static boolean hasNullElement(Object[] array) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 判断集合中是否包含null元素。
+     *
+     * @param collection 集合，不能为null
+     * @return 如果包含null元素则返回true
+     */
+    private static boolean hasNullElement(Collection collection) {
+        for (Iterator it = collection.iterator(); it.hasNext(); ) {
+            if (it.next() == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
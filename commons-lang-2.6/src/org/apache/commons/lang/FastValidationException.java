@@ -0,0 +1,68 @@
+package org.apache.commons.lang;
+
+/**
+ * <p>{@link FastValidate}抛出的轻量级参数校验异常，不记录异常堆栈。</p>
+ * <p>创建普通异常时，{@link Throwable#fillInStackTrace()}需要遍历整个调用栈，当校验失败是一种正常的控制流（例如网关每秒拒绝几千个非法请求）时，
+ * 这部分开销远远超过了校验本身。该类覆盖了fillInStackTrace()，默认不记录堆栈，{@link #getStackTrace()}返回空数组。
+ * 调试时可以通过{@link FastValidate#setStackTraceEnabled(boolean)}重新打开堆栈记录，也可以用它来对比两种方式的CPU开销。</p>
+ * <p>由于不记录堆栈，同一个实例可以预先创建好并重复抛出，见{@link FastValidate#isTrue(boolean, FastValidationException)}。
+ * 注意重复抛出的实例不应该再通过addSuppressed()或initCause()修改。</p>
+ * <p>该类是{@link IllegalArgumentException}的子类，所以捕获IllegalArgumentException的已有代码不需要修改。</p>
+ *
+ * @author lcl100
+ * @create 2026-10-18 21:05
+ */
+public class FastValidationException extends IllegalArgumentException {
+
+    /**
+     * 序列化版本号
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 状态码，由调用者定义，例如可以直接使用HTTP状态码
+     */
+    private final int statusCode;
+
+    /**
+     * 构造方法，状态码为{@link FastValidate#INVALID}。
+     *
+     * @param message 异常消息
+     */
+    public FastValidationException(String message) {
+        this(message, FastValidate.INVALID);
+    }
+
+    /**
+     * 构造方法，使用指定的状态码。
+     *
+     * @param message    异常消息
+     * @param statusCode 状态码
+     */
+    public FastValidationException(String message, int statusCode) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * 获取状态码。
+     *
+     * @return 状态码
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * 只有在{@link FastValidate#isStackTraceEnabled()}为true时才记录堆栈，否则直接返回当前异常。
+     *
+     * @return 当前异常
+     */
+    public Throwable fillInStackTrace() {
+        if (FastValidate.isStackTraceEnabled()) {
+            return super.fillInStackTrace();
+        }
+        return this;
+    }
+
+}
@@ -0,0 +1,385 @@
+package org.apache.commons.lang;
+
+/**
+ * <p>键和值都是基本数据类型long的哈希表，使用开放寻址法（线性探测）解决冲突。</p>
+ * <p>与{@link ArrayUtils#toMap(Object[])}返回的{@link java.util.HashMap}相比，键和值都不需要装箱成Long，也不需要为每个键值对创建Entry对象，
+ * 所有的键和值都直接保存在两个平行的long[]数组中。适合根据查找表一次性构建、之后频繁读取的场景。</p>
+ * <pre>
+ *     LongLongMap map = LongLongMap.fromPairs(new long[][]{{1L, 100L}, {2L, 200L}});
+ *     map.get(2L, -1L) = 200L
+ *     map.get(3L, -1L) = -1L
+ * </pre>
+ * <p>键0被用作空槽位的标记，所以键为0的键值对单独保存在数组之外。</p>
+ * <p>非线程安全</p>
+ *
+ * @author lcl100
+ * @create 2026-10-17 20:15
+ */
+public class LongLongMap {
+
+    /**
+     * 常量，数组的最小容量，必须是2的幂
+     */
+    private static final int MIN_CAPACITY = 8;
+
+    /**
+     * 常量，数组的最大容量，再扩容一倍就会溢出
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * 存放键的数组，0表示该槽位为空，长度总是2的幂
+     */
+    private long[] keys;
+    /**
+     * 存放值的数组，与keys数组平行
+     */
+    private long[] values;
+    /**
+     * 容量减1，用于代替取模运算
+     */
+    private int mask;
+    /**
+     * 键值对的个数，包括键为0的键值对
+     */
+    private int size;
+    /**
+     * 数组中的键值对个数达到该值时扩容，为容量的一半，保证线性探测的链足够短
+     */
+    private int resizeThreshold;
+    /**
+     * 是否包含键为0的键值对
+     */
+    private boolean hasZeroKey;
+    /**
+     * 键0对应的值
+     */
+    private long zeroValue;
+
+    /**
+     * 构造方法，创建一个空的哈希表。
+     */
+    public LongLongMap() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    /**
+     * 构造方法，创建一个能容纳expectedSize个键值对而不需要扩容的哈希表。
+     *
+     * @param expectedSize 预期的键值对个数
+     * @throws IllegalArgumentException 如果expectedSize小于0
+     */
+    public LongLongMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * <p>根据平行的键数组和值数组创建哈希表，keys[i]对应values[i]。键重复时后面的值覆盖前面的值。</p>
+     *
+     * @param keys   键数组，不能为null
+     * @param values 值数组，不能为null，长度必须与键数组相同
+     * @return 新的哈希表
+     * @throws IllegalArgumentException 如果数组为null或者两个数组的长度不同
+     */
+    public static LongLongMap fromArrays(long[] keys, long[] values) {
+        if (keys == null || values == null) {
+            throw new IllegalArgumentException("The key and value arrays must not be null");
+        }
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("The key array length " + keys.length
+                    + " differs from the value array length " + values.length);
+        }
+        LongLongMap map = new LongLongMap(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], values[i]);
+        }
+        return map;
+    }
+
+    /**
+     * <p>根据键值对数组创建哈希表，每一行至少包含两个元素，第一个元素作为键，第二个元素作为值，更多的元素被忽略。</p>
+     *
+     * @param array 键值对数组，即n行2列的二维数组，可能为null
+     * @return 新的哈希表，如果array为null则返回null
+     * @throws IllegalArgumentException 如果某一行为null或者长度小于2
+     */
+    public static LongLongMap fromPairs(long[][] array) {
+        if (array == null) {
+            return null;
+        }
+        LongLongMap map = new LongLongMap(array.length);
+        for (int i = 0; i < array.length; i++) {
+            long[] entry = array[i];
+            if (entry == null || entry.length < 2) {
+                throw new IllegalArgumentException("Array element " + i + ", '"
+                        + ArrayUtils.toString(entry, "null")
+                        + "', has a length less than 2");
+            }
+            map.put(entry[0], entry[1]);
+        }
+        return map;
+    }
+
+    /**
+     * 获取键对应的值。
+     *
+     * @param key          键
+     * @param defaultValue 不存在该键时返回的默认值
+     * @return 对应的值，如果不存在该键则返回defaultValue
+     */
+    public long get(long key, long defaultValue) {
+        if (key == 0) {
+            return hasZeroKey ? zeroValue : defaultValue;
+        }
+        int index = indexOf(key);
+        return index < 0 ? defaultValue : values[index];
+    }
+
+    /**
+     * 判断是否包含指定的键。
+     *
+     * @param key 键
+     * @return 如果包含则返回true
+     */
+    public boolean containsKey(long key) {
+        if (key == 0) {
+            return hasZeroKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * 添加键值对，如果键已经存在则替换原来的值。
+     *
+     * @param key   键
+     * @param value 值
+     * @throws IllegalStateException 如果已经达到最大容量并且无法再插入新的键
+     */
+    public void put(long key, long value) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return;
+        }
+        int index = slot(key);
+        // 线性探测，直到找到相同的键或者空槽位
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        if (size - (hasZeroKey ? 1 : 0) == keys.length - 1) {
+            // 已经达到最大容量，至少保留一个空槽位，保证线性探测能够结束
+            throw new IllegalStateException("The map is full: " + size + " entries");
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size - (hasZeroKey ? 1 : 0) > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * 删除指定的键。删除后会将同一探测链上后面的键值对向前移动填补空位，而不是留下删除标记，所以删除操作不会降低之后的查找性能。
+     *
+     * @param key 键
+     * @return 如果该键存在并被删除则返回true
+     */
+    public boolean remove(long key) {
+        if (key == 0) {
+            if (!hasZeroKey) {
+                return false;
+            }
+            hasZeroKey = false;
+            zeroValue = 0;
+            size--;
+            return true;
+        }
+        int gap = indexOf(key);
+        if (gap < 0) {
+            return false;
+        }
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            long k = keys[index];
+            if (k == 0) {
+                break;
+            }
+            // 如果空位gap处在该键的初始槽位到当前位置之间，则可以将它前移到gap
+            int home = slot(k);
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = k;
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        keys[gap] = 0;
+        values[gap] = 0;
+        size--;
+        return true;
+    }
+
+    /**
+     * 获取键值对的个数。
+     *
+     * @return 键值对的个数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 判断哈希表是否为空。
+     *
+     * @return 如果没有任何键值对则返回true
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 删除所有键值对，保留已分配的数组以便复用。
+     */
+    public void clear() {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = 0;
+            values[i] = 0;
+        }
+        hasZeroKey = false;
+        zeroValue = 0;
+        size = 0;
+    }
+
+    /**
+     * 返回所有键组成的新数组，顺序不确定。
+     *
+     * @return 键数组
+     */
+    public long[] keys() {
+        long[] result = new long[size];
+        int n = 0;
+        if (hasZeroKey) {
+            result[n++] = 0;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                result[n++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 将哈希表输出为字符串，格式与{@link java.util.AbstractMap#toString()}相同，例如：{1=100, 2=200}，顺序不确定。
+     *
+     * @return 哈希表的字符串表示
+     */
+    public String toString() {
+        StringBuffer buffer = new StringBuffer(size * 8 + 2);
+        buffer.append('{');
+        if (hasZeroKey) {
+            buffer.append(0).append('=').append(zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                if (buffer.length() > 1) {
+                    buffer.append(", ");
+                }
+                buffer.append(keys[i]).append('=').append(values[i]);
+            }
+        }
+        buffer.append('}');
+        return buffer.toString();
+    }
+
+    /**
+     * 查找键所在的槽位。
+     *
+     * @param key 键，不能为0
+     * @return 槽位的索引，如果不存在则返回-1
+     */
+    private int indexOf(long key) {
+        int index = slot(key);
+        while (true) {
+            long k = keys[index];
+            if (k == key) {
+                return index;
+            }
+            if (k == 0) {
+                return -1;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * 计算键的初始槽位，先乘以黄金分割常数打散低位相同的键，再将高位折叠到低位参与运算。
+     *
+     * @param key 键
+     * @return 初始槽位
+     */
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        int x = (int) (h ^ (h >>> 32));
+        return (x ^ (x >>> 16)) & mask;
+    }
+
+    /**
+     * 扩容到新的容量，并将所有键值对重新放入新数组中。
+     *
+     * @param newCapacity 新的容量，必须是2的幂
+     */
+    private void rehash(int newCapacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int index = slot(key);
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * 分配指定容量的数组。
+     *
+     * @param capacity 容量，必须是2的幂
+     */
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        // 达到最大容量后不再扩容，允许一直填充到只剩一个空槽位
+        resizeThreshold = capacity < MAX_CAPACITY ? capacity >> 1 : capacity - 1;
+    }
+
+    /**
+     * 计算容纳expectedSize个键值对所需的最小容量（2的幂）。
+     *
+     * @param expectedSize 预期的键值对个数
+     * @return 容量
+     */
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity >> 1 < expectedSize && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+}
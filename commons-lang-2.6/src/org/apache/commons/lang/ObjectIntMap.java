@@ -0,0 +1,407 @@
+package org.apache.commons.lang;
+
+import java.util.Map;
+
+/**
+ * <p>键为Object、值为基本数据类型int的哈希表，使用开放寻址法（线性探测）解决冲突。</p>
+ * <p>与{@link ArrayUtils#toMap(Object[])}返回的{@link java.util.HashMap}相比，值不需要装箱成Integer，也不需要为每个键值对创建Entry对象，
+ * 所有的键和值都直接保存在两个平行数组中。键的比较使用equals()方法。适合根据查找表一次性构建、之后频繁读取的场景。</p>
+ * <pre>
+ *     ObjectIntMap map = ObjectIntMap.fromArrays(new String[]{"RED", "GREEN"}, new int[]{1, 2});
+ *     map.get("GREEN", -1) = 2
+ *     map.get("BLUE", -1)  = -1
+ * </pre>
+ * <p>null被用作空槽位的标记，所以键为null的键值对单独保存在数组之外。</p>
+ * <p>非线程安全</p>
+ *
+ * @author lcl100
+ * @create 2026-10-17 20:40
+ */
+public class ObjectIntMap {
+
+    /**
+     * 常量，数组的最小容量，必须是2的幂
+     */
+    private static final int MIN_CAPACITY = 8;
+
+    /**
+     * 常量，数组的最大容量，再扩容一倍就会溢出
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * 存放键的数组，null表示该槽位为空，长度总是2的幂
+     */
+    private Object[] keys;
+    /**
+     * 存放值的数组，与keys数组平行
+     */
+    private int[] values;
+    /**
+     * 容量减1，用于代替取模运算
+     */
+    private int mask;
+    /**
+     * 键值对的个数，包括键为null的键值对
+     */
+    private int size;
+    /**
+     * 数组中的键值对个数达到该值时扩容，为容量的一半，保证线性探测的链足够短
+     */
+    private int resizeThreshold;
+    /**
+     * 是否包含键为null的键值对
+     */
+    private boolean hasNullKey;
+    /**
+     * 键null对应的值
+     */
+    private int nullValue;
+
+    /**
+     * 构造方法，创建一个空的哈希表。
+     */
+    public ObjectIntMap() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    /**
+     * 构造方法，创建一个能容纳expectedSize个键值对而不需要扩容的哈希表。
+     *
+     * @param expectedSize 预期的键值对个数
+     * @throws IllegalArgumentException 如果expectedSize小于0
+     */
+    public ObjectIntMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+        }
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * <p>根据平行的键数组和值数组创建哈希表，keys[i]对应values[i]。键重复时后面的值覆盖前面的值。</p>
+     *
+     * @param keys   键数组，不能为null
+     * @param values 值数组，不能为null，长度必须与键数组相同
+     * @return 新的哈希表
+     * @throws IllegalArgumentException 如果数组为null或者两个数组的长度不同
+     */
+    public static ObjectIntMap fromArrays(Object[] keys, int[] values) {
+        if (keys == null || values == null) {
+            throw new IllegalArgumentException("The key and value arrays must not be null");
+        }
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException("The key array length " + keys.length
+                    + " differs from the value array length " + values.length);
+        }
+        ObjectIntMap map = new ObjectIntMap(keys.length);
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], values[i]);
+        }
+        return map;
+    }
+
+    /**
+     * <p>根据键值对数组创建哈希表，数组元素的要求与{@link ArrayUtils#toMap(Object[])}相同：每个元素都必须是{@link Map.Entry}或者至少包含两个元素的数组，
+     * 第一个元素作为键，第二个元素作为值。另外，值必须是{@link Number}，取其intValue()作为int值。</p>
+     *
+     * @param array 键值对数组，可能为null
+     * @return 新的哈希表，如果array为null则返回null
+     * @throws IllegalArgumentException 如果数组元素既不是Map.Entry也不是长度至少为2的数组，或者值不是Number
+     */
+    public static ObjectIntMap fromPairs(Object[] array) {
+        if (array == null) {
+            return null;
+        }
+        ObjectIntMap map = new ObjectIntMap(array.length);
+        for (int i = 0; i < array.length; i++) {
+            Object object = array[i];
+            Object key;
+            Object value;
+            if (object instanceof Map.Entry) {
+                Map.Entry entry = (Map.Entry) object;
+                key = entry.getKey();
+                value = entry.getValue();
+            } else if (object instanceof Object[]) {
+                Object[] entry = (Object[]) object;
+                if (entry.length < 2) {
+                    throw new IllegalArgumentException("Array element " + i + ", '"
+                            + object
+                            + "', has a length less than 2");
+                }
+                key = entry[0];
+                value = entry[1];
+            } else {
+                throw new IllegalArgumentException("Array element " + i + ", '"
+                        + object
+                        + "', is neither of type Map.Entry nor an Array");
+            }
+            if (!(value instanceof Number)) {
+                throw new IllegalArgumentException("Array element " + i + " has a value '"
+                        + value
+                        + "' that is not a Number");
+            }
+            map.put(key, ((Number) value).intValue());
+        }
+        return map;
+    }
+
+    /**
+     * 获取键对应的值。
+     *
+     * @param key          键，可能为null
+     * @param defaultValue 不存在该键时返回的默认值
+     * @return 对应的值，如果不存在该键则返回defaultValue
+     */
+    public int get(Object key, int defaultValue) {
+        if (key == null) {
+            return hasNullKey ? nullValue : defaultValue;
+        }
+        int index = indexOf(key);
+        return index < 0 ? defaultValue : values[index];
+    }
+
+    /**
+     * 判断是否包含指定的键。
+     *
+     * @param key 键，可能为null
+     * @return 如果包含则返回true
+     */
+    public boolean containsKey(Object key) {
+        if (key == null) {
+            return hasNullKey;
+        }
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * 添加键值对，如果键已经存在则替换原来的值。
+     *
+     * @param key   键，可能为null
+     * @param value 值
+     * @throws IllegalStateException 如果已经达到最大容量并且无法再插入新的键
+     */
+    public void put(Object key, int value) {
+        if (key == null) {
+            if (!hasNullKey) {
+                hasNullKey = true;
+                size++;
+            }
+            nullValue = value;
+            return;
+        }
+        int index = slot(key);
+        // 线性探测，直到找到相等的键或者空槽位
+        while (keys[index] != null) {
+            if (key.equals(keys[index])) {
+                values[index] = value;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        if (size - (hasNullKey ? 1 : 0) == keys.length - 1) {
+            // 已经达到最大容量，至少保留一个空槽位，保证线性探测能够结束
+            throw new IllegalStateException("The map is full: " + size + " entries");
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size - (hasNullKey ? 1 : 0) > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    /**
+     * 删除指定的键。删除后会将同一探测链上后面的键值对向前移动填补空位，而不是留下删除标记，所以删除操作不会降低之后的查找性能。
+     *
+     * @param key 键，可能为null
+     * @return 如果该键存在并被删除则返回true
+     */
+    public boolean remove(Object key) {
+        if (key == null) {
+            if (!hasNullKey) {
+                return false;
+            }
+            hasNullKey = false;
+            nullValue = 0;
+            size--;
+            return true;
+        }
+        int gap = indexOf(key);
+        if (gap < 0) {
+            return false;
+        }
+        int index = gap;
+        while (true) {
+            index = (index + 1) & mask;
+            Object k = keys[index];
+            if (k == null) {
+                break;
+            }
+            // 如果空位gap处在该键的初始槽位到当前位置之间，则可以将它前移到gap
+            int home = slot(k);
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = k;
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        keys[gap] = null;
+        values[gap] = 0;
+        size--;
+        return true;
+    }
+
+    /**
+     * 获取键值对的个数。
+     *
+     * @return 键值对的个数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 判断哈希表是否为空。
+     *
+     * @return 如果没有任何键值对则返回true
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 删除所有键值对，保留已分配的数组以便复用。
+     */
+    public void clear() {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = null;
+            values[i] = 0;
+        }
+        hasNullKey = false;
+        nullValue = 0;
+        size = 0;
+    }
+
+    /**
+     * 返回所有键组成的新数组，顺序不确定。
+     *
+     * @return 键数组
+     */
+    public Object[] keys() {
+        Object[] result = new Object[size];
+        int n = 0;
+        if (hasNullKey) {
+            result[n++] = null;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                result[n++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 将哈希表输出为字符串，格式与{@link java.util.AbstractMap#toString()}相同，例如：{RED=1, GREEN=2}，顺序不确定。
+     *
+     * @return 哈希表的字符串表示
+     */
+    public String toString() {
+        StringBuffer buffer = new StringBuffer(size * 8 + 2);
+        buffer.append('{');
+        if (hasNullKey) {
+            buffer.append("null=").append(nullValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                if (buffer.length() > 1) {
+                    buffer.append(", ");
+                }
+                buffer.append(keys[i]).append('=').append(values[i]);
+            }
+        }
+        buffer.append('}');
+        return buffer.toString();
+    }
+
+    /**
+     * 查找键所在的槽位。
+     *
+     * @param key 键，不能为null
+     * @return 槽位的索引，如果不存在则返回-1
+     */
+    private int indexOf(Object key) {
+        int index = slot(key);
+        while (true) {
+            Object k = keys[index];
+            if (k == null) {
+                return -1;
+            }
+            if (k == key || key.equals(k)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * 计算键的初始槽位，将hashCode()乘以黄金分割常数，避免hashCode()质量较差（例如低位相同）时聚集在一起。
+     *
+     * @param key 键，不能为null
+     * @return 初始槽位
+     */
+    private int slot(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * 扩容到新的容量，并将所有键值对重新放入新数组中。
+     *
+     * @param newCapacity 新的容量，必须是2的幂
+     */
+    private void rehash(int newCapacity) {
+        Object[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            Object key = oldKeys[i];
+            if (key != null) {
+                int index = slot(key);
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * 分配指定容量的数组。
+     *
+     * @param capacity 容量，必须是2的幂
+     */
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        // 达到最大容量后不再扩容，允许一直填充到只剩一个空槽位
+        resizeThreshold = capacity < MAX_CAPACITY ? capacity >> 1 : capacity - 1;
+    }
+
+    /**
+     * 计算容纳expectedSize个键值对所需的最小容量（2的幂）。
+     *
+     * @param expectedSize 预期的键值对个数
+     * @return 容量
+     */
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity >> 1 < expectedSize && capacity < MAX_CAPACITY) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+}
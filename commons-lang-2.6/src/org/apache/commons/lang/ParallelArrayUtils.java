@@ -0,0 +1,620 @@
+package org.apache.commons.lang;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>{@link ArrayUtils}中批量操作的并行版本，包括reverse、toPrimitive、toObject、indexOf和contains。</p>
+ * <p>当数组长度不小于阈值（见{@link #getParallelThreshold()}）时，会将数组按索引范围不断二分，交给{@link ForkJoinPool#commonPool()}并行处理；
+ * 当数组长度小于阈值时直接调用{@link ArrayUtils}中对应的串行方法，因为此时拆分任务的开销要大于并行带来的收益。</p>
+ * <p>所有方法的语义（包括对null的处理和抛出的异常）都与{@link ArrayUtils}中对应的方法一致。
+ * 其中indexOf保证返回的是最小的匹配索引：一旦某个子任务找到了匹配的元素，所有起始索引比它大的子任务都会直接跳过，不再遍历。</p>
+ * <p>线程安全，但调用方需要保证在操作期间没有其他线程修改传入的数组。</p>
+ *
+ * @author lcl100
+ * @create 2026-10-17 14:20
+ */
+public class ParallelArrayUtils {
+
+    /**
+     * 常量，默认的并行阈值，数组长度小于该值时串行处理
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+    /**
+     * 当前的并行阈值，同时也是每个子任务处理的最大元素个数
+     */
+    private static volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     * <p><code>ParallelArrayUtils</code>实例对象不应该被创建，相反，该类应该直接调用静态方法，如<code>ParallelArrayUtils.reverse(array);</code></p>
+     */
+    public ParallelArrayUtils() {
+        super();
+    }
+
+    /**
+     * 获取当前的并行阈值。
+     *
+     * @return 并行阈值
+     */
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * 设置并行阈值，数组长度小于该值时串行处理，否则拆分为若干个最多包含该数量元素的子任务并行处理。
+     *
+     * @param threshold 新的并行阈值
+     * @throws IllegalArgumentException 如果threshold小于1
+     */
+    public static void setParallelThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Parallel threshold must be positive: " + threshold);
+        }
+        parallelThreshold = threshold;
+    }
+
+    // Reverse
+    //-----------------------------------------------------------------------
+
+    /**
+     * <p>并行反转给定数组的顺序，与{@link ArrayUtils#reverse(Object[])}语义相同。</p>
+     *
+     * @param array 要反转的数组，可能为null
+     */
+    public static void reverse(Object[] array) {
+        if (array == null || array.length < parallelThreshold) {
+            ArrayUtils.reverse(array);
+            return;
+        }
+        invoke(new ReverseTask(array, array.length, 0, array.length / 2));
+    }
+
+    /**
+     * <p>并行反转给定数组的顺序，与{@link ArrayUtils#reverse(int[])}语义相同。</p>
+     *
+     * @param array 要反转的数组，可能为null
+     */
+    public static void reverse(int[] array) {
+        if (array == null || array.length < parallelThreshold) {
+            ArrayUtils.reverse(array);
+            return;
+        }
+        invoke(new ReverseTask(array, array.length, 0, array.length / 2));
+    }
+
+    /**
+     * <p>并行反转给定数组的顺序，与{@link ArrayUtils#reverse(long[])}语义相同。</p>
+     *
+     * @param array 要反转的数组，可能为null
+     */
+    public static void reverse(long[] array) {
+        if (array == null || array.length < parallelThreshold) {
+            ArrayUtils.reverse(array);
+            return;
+        }
+        invoke(new ReverseTask(array, array.length, 0, array.length / 2));
+    }
+
+    /**
+     * <p>并行反转给定数组的顺序，与{@link ArrayUtils#reverse(double[])}语义相同。</p>
+     *
+     * @param array 要反转的数组，可能为null
+     */
+    public static void reverse(double[] array) {
+        if (array == null || array.length < parallelThreshold) {
+            ArrayUtils.reverse(array);
+            return;
+        }
+        invoke(new ReverseTask(array, array.length, 0, array.length / 2));
+    }
+
+    // Primitive/Object array converters
+    //-----------------------------------------------------------------------
+
+    /**
+     * <p>并行地将Integer[]数组转换成int[]数组，与{@link ArrayUtils#toPrimitive(Integer[])}语义相同。</p>
+     *
+     * @param array Integer[]数组，可能为null
+     * @return int[]数组，如果输入数组为null则返回null
+     * @throws NullPointerException 如果数组中有元素为null
+     */
+    public static int[] toPrimitive(Integer[] array) {
+        if (array == null || array.length < parallelThreshold) {
+            return ArrayUtils.toPrimitive(array);
+        }
+        int[] result = new int[array.length];
+        invoke(new ConvertTask(array, result, 0, array.length));
+        return result;
+    }
+
+    /**
+     * <p>并行地将Long[]数组转换成long[]数组，与{@link ArrayUtils#toPrimitive(Long[])}语义相同。</p>
+     *
+     * @param array Long[]数组，可能为null
+     * @return long[]数组，如果输入数组为null则返回null
+     * @throws NullPointerException 如果数组中有元素为null
+     */
+    public static long[] toPrimitive(Long[] array) {
+        if (array == null || array.length < parallelThreshold) {
+            return ArrayUtils.toPrimitive(array);
+        }
+        long[] result = new long[array.length];
+        invoke(new ConvertTask(array, result, 0, array.length));
+        return result;
+    }
+
+    /**
+     * <p>并行地将Double[]数组转换成double[]数组，与{@link ArrayUtils#toPrimitive(Double[])}语义相同。</p>
+     *
+     * @param array Double[]数组，可能为null
+     * @return double[]数组，如果输入数组为null则返回null
+     * @throws NullPointerException 如果数组中有元素为null
+     */
+    public static double[] toPrimitive(Double[] array) {
+        if (array == null || array.length < parallelThreshold) {
+            return ArrayUtils.toPrimitive(array);
+        }
+        double[] result = new double[array.length];
+        invoke(new ConvertTask(array, result, 0, array.length));
+        return result;
+    }
+
+    /**
+     * <p>并行地将int[]数组转换成Integer[]数组，与{@link ArrayUtils#toObject(int[])}语义相同。</p>
+     *
+     * @param array int[]数组，可能为null
+     * @return Integer[]数组，如果输入数组为null则返回null
+     */
+    public static Integer[] toObject(int[] array) {
+        if (array == null || array.length < parallelThreshold) {
+            return ArrayUtils.toObject(array);
+        }
+        Integer[] result = new Integer[array.length];
+        invoke(new ConvertTask(array, result, 0, array.length));
+        return result;
+    }
+
+    /**
+     * <p>并行地将long[]数组转换成Long[]数组，与{@link ArrayUtils#toObject(long[])}语义相同。</p>
+     *
+     * @param array long[]数组，可能为null
+     * @return Long[]数组，如果输入数组为null则返回null
+     */
+    public static Long[] toObject(long[] array) {
+        if (array == null || array.length < parallelThreshold) {
+            return ArrayUtils.toObject(array);
+        }
+        Long[] result = new Long[array.length];
+        invoke(new ConvertTask(array, result, 0, array.length));
+        return result;
+    }
+
+    /**
+     * <p>并行地将double[]数组转换成Double[]数组，与{@link ArrayUtils#toObject(double[])}语义相同。</p>
+     *
+     * @param array double[]数组，可能为null
+     * @return Double[]数组，如果输入数组为null则返回null
+     */
+    public static Double[] toObject(double[] array) {
+        if (array == null || array.length < parallelThreshold) {
+            return ArrayUtils.toObject(array);
+        }
+        Double[] result = new Double[array.length];
+        invoke(new ConvertTask(array, result, 0, array.length));
+        return result;
+    }
+
+    // IndexOf/contains
+    //-----------------------------------------------------------------------
+
+    /**
+     * <p>并行查找给定对象在数组中第一次出现的索引，与{@link ArrayUtils#indexOf(Object[], Object)}语义相同。</p>
+     *
+     * @param array        要搜索的数组，可能为null
+     * @param objectToFind 要查找的对象，可能为null
+     * @return 最小的匹配索引，如果未找到或者数组为null则返回{@link ArrayUtils#INDEX_NOT_FOUND}，即-1
+     */
+    public static int indexOf(Object[] array, Object objectToFind) {
+        if (array == null || array.length < parallelThreshold) {
+            return ArrayUtils.indexOf(array, objectToFind);
+        }
+        // 与ArrayUtils保持一致，类型不匹配的对象不可能与数组中的元素相等
+        if (objectToFind != null && !array.getClass().getComponentType().isInstance(objectToFind)) {
+            return ArrayUtils.INDEX_NOT_FOUND;
+        }
+        return search(array, objectToFind);
+    }
+
+    /**
+     * <p>并行查找给定值在数组中第一次出现的索引，与{@link ArrayUtils#indexOf(int[], int)}语义相同。</p>
+     *
+     * @param array       要搜索的数组，可能为null
+     * @param valueToFind 要查找的值
+     * @return 最小的匹配索引，如果未找到或者数组为null则返回{@link ArrayUtils#INDEX_NOT_FOUND}，即-1
+     */
+    public static int indexOf(int[] array, int valueToFind) {
+        if (array == null || array.length < parallelThreshold) {
+            return ArrayUtils.indexOf(array, valueToFind);
+        }
+        return search(array, Integer.valueOf(valueToFind));
+    }
+
+    /**
+     * <p>并行查找给定值在数组中第一次出现的索引，与{@link ArrayUtils#indexOf(long[], long)}语义相同。</p>
+     *
+     * @param array       要搜索的数组，可能为null
+     * @param valueToFind 要查找的值
+     * @return 最小的匹配索引，如果未找到或者数组为null则返回{@link ArrayUtils#INDEX_NOT_FOUND}，即-1
+     */
+    public static int indexOf(long[] array, long valueToFind) {
+        if (array == null || array.length < parallelThreshold) {
+            return ArrayUtils.indexOf(array, valueToFind);
+        }
+        return search(array, Long.valueOf(valueToFind));
+    }
+
+    /**
+     * <p>并行查找给定值在数组中第一次出现的索引，与{@link ArrayUtils#indexOf(double[], double)}语义相同，即使用"=="比较。</p>
+     *
+     * @param array       要搜索的数组，可能为null
+     * @param valueToFind 要查找的值
+     * @return 最小的匹配索引，如果未找到或者数组为null则返回{@link ArrayUtils#INDEX_NOT_FOUND}，即-1
+     */
+    public static int indexOf(double[] array, double valueToFind) {
+        if (array == null || array.length < parallelThreshold) {
+            return ArrayUtils.indexOf(array, valueToFind);
+        }
+        return search(array, Double.valueOf(valueToFind));
+    }
+
+    /**
+     * <p>并行判断数组中是否包含给定对象，与{@link ArrayUtils#contains(Object[], Object)}语义相同。</p>
+     *
+     * @param array        要搜索的数组，可能为null
+     * @param objectToFind 要查找的对象，可能为null
+     * @return 如果数组包含该对象则返回true
+     */
+    public static boolean contains(Object[] array, Object objectToFind) {
+        return indexOf(array, objectToFind) != ArrayUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * <p>并行判断数组中是否包含给定值，与{@link ArrayUtils#contains(int[], int)}语义相同。</p>
+     *
+     * @param array       要搜索的数组，可能为null
+     * @param valueToFind 要查找的值
+     * @return 如果数组包含该值则返回true
+     */
+    public static boolean contains(int[] array, int valueToFind) {
+        return indexOf(array, valueToFind) != ArrayUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * <p>并行判断数组中是否包含给定值，与{@link ArrayUtils#contains(long[], long)}语义相同。</p>
+     *
+     * @param array       要搜索的数组，可能为null
+     * @param valueToFind 要查找的值
+     * @return 如果数组包含该值则返回true
+     */
+    public static boolean contains(long[] array, long valueToFind) {
+        return indexOf(array, valueToFind) != ArrayUtils.INDEX_NOT_FOUND;
+    }
+
+    /**
+     * <p>并行判断数组中是否包含给定值，与{@link ArrayUtils#contains(double[], double)}语义相同。</p>
+     *
+     * @param array       要搜索的数组，可能为null
+     * @param valueToFind 要查找的值
+     * @return 如果数组包含该值则返回true
+     */
+    public static boolean contains(double[] array, double valueToFind) {
+        return indexOf(array, valueToFind) != ArrayUtils.INDEX_NOT_FOUND;
+    }
+
+    // 内部实现
+    //-----------------------------------------------------------------------
+
+    /**
+     * 在公共的ForkJoinPool中执行任务并等待完成，子任务中抛出的异常会原样抛给调用者。
+     *
+     * @param task 待执行的任务
+     */
+    private static void invoke(RangeTask task) {
+        ForkJoinPool.commonPool().invoke(task);
+    }
+
+    /**
+     * 并行查找的入口，value是已经装箱的待查找值，整个查找过程只装箱这一次。
+     *
+     * @param array 要搜索的数组，不能为null
+     * @param value 要查找的值
+     * @return 最小的匹配索引，未找到则返回-1
+     */
+    private static int search(Object array, Object value) {
+        AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+        invoke(new IndexOfTask(array, value, found, 0, ArrayUtils.getLength(array)));
+        int index = found.get();
+        return index == Integer.MAX_VALUE ? ArrayUtils.INDEX_NOT_FOUND : index;
+    }
+
+    /**
+     * <p>处理索引范围[from, to)的任务基类。范围内的元素个数超过阈值时二分为两个子任务，否则直接调用{@link #computeDirectly()}处理。</p>
+     */
+    private abstract static class RangeTask extends RecursiveAction {
+        /**
+         * 序列化版本号
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * 范围起始索引（包含）
+         */
+        final int from;
+        /**
+         * 范围结束索引（不包含）
+         */
+        final int to;
+
+        RangeTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        protected void compute() {
+            if (to - from <= parallelThreshold) {
+                computeDirectly();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(createSubtask(from, mid), createSubtask(mid, to));
+        }
+
+        /**
+         * 串行处理当前范围内的元素
+         */
+        abstract void computeDirectly();
+
+        /**
+         * 创建处理指定子范围的任务
+         *
+         * @param subFrom 子范围起始索引（包含）
+         * @param subTo   子范围结束索引（不包含）
+         * @return 子任务
+         */
+        abstract RangeTask createSubtask(int subFrom, int subTo);
+    }
+
+    /**
+     * 反转任务，范围[from, to)表示前半部分中需要与对称位置交换的索引。
+     */
+    private static final class ReverseTask extends RangeTask {
+        /**
+         * 序列化版本号
+         */
+        private static final long serialVersionUID = 1L;
+
+        private final Object array;
+        private final int length;
+
+        ReverseTask(Object array, int length, int from, int to) {
+            super(from, to);
+            this.array = array;
+            this.length = length;
+        }
+
+        RangeTask createSubtask(int subFrom, int subTo) {
+            return new ReverseTask(array, length, subFrom, subTo);
+        }
+
+        void computeDirectly() {
+            if (array instanceof int[]) {
+                int[] a = (int[]) array;
+                for (int i = from, j = length - 1 - from; i < to; i++, j--) {
+                    int tmp = a[j];
+                    a[j] = a[i];
+                    a[i] = tmp;
+                }
+            } else if (array instanceof long[]) {
+                long[] a = (long[]) array;
+                for (int i = from, j = length - 1 - from; i < to; i++, j--) {
+                    long tmp = a[j];
+                    a[j] = a[i];
+                    a[i] = tmp;
+                }
+            } else if (array instanceof double[]) {
+                double[] a = (double[]) array;
+                for (int i = from, j = length - 1 - from; i < to; i++, j--) {
+                    double tmp = a[j];
+                    a[j] = a[i];
+                    a[i] = tmp;
+                }
+            } else {
+                Object[] a = (Object[]) array;
+                for (int i = from, j = length - 1 - from; i < to; i++, j--) {
+                    Object tmp = a[j];
+                    a[j] = a[i];
+                    a[i] = tmp;
+                }
+            }
+        }
+    }
+
+    /**
+     * 基本数据类型数组与包装类型数组之间的转换任务，根据源数组的类型决定转换方向。
+     */
+    private static final class ConvertTask extends RangeTask {
+        /**
+         * 序列化版本号
+         */
+        private static final long serialVersionUID = 1L;
+
+        private final Object source;
+        private final Object target;
+
+        ConvertTask(Object source, Object target, int from, int to) {
+            super(from, to);
+            this.source = source;
+            this.target = target;
+        }
+
+        RangeTask createSubtask(int subFrom, int subTo) {
+            return new ConvertTask(source, target, subFrom, subTo);
+        }
+
+        void computeDirectly() {
+            if (source instanceof Integer[]) {
+                Integer[] s = (Integer[]) source;
+                int[] t = (int[]) target;
+                for (int i = from; i < to; i++) {
+                    t[i] = s[i].intValue();
+                }
+            } else if (source instanceof Long[]) {
+                Long[] s = (Long[]) source;
+                long[] t = (long[]) target;
+                for (int i = from; i < to; i++) {
+                    t[i] = s[i].longValue();
+                }
+            } else if (source instanceof Double[]) {
+                Double[] s = (Double[]) source;
+                double[] t = (double[]) target;
+                for (int i = from; i < to; i++) {
+                    t[i] = s[i].doubleValue();
+                }
+            } else if (source instanceof int[]) {
+                int[] s = (int[]) source;
+                Integer[] t = (Integer[]) target;
+                for (int i = from; i < to; i++) {
+                    t[i] = Integer.valueOf(s[i]);
+                }
+            } else if (source instanceof long[]) {
+                long[] s = (long[]) source;
+                Long[] t = (Long[]) target;
+                for (int i = from; i < to; i++) {
+                    t[i] = Long.valueOf(s[i]);
+                }
+            } else {
+                double[] s = (double[]) source;
+                Double[] t = (Double[]) target;
+                for (int i = from; i < to; i++) {
+                    t[i] = Double.valueOf(s[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>查找任务。所有子任务共享同一个found，保存目前为止找到的最小匹配索引。</p>
+     * <p>如果一个子任务的起始索引已经不小于found，那么它范围内的任何匹配都不可能是最小索引，直接跳过；
+     * 遍历过程中也会定期检查found，一旦有更小的索引被找到就提前结束。由于所有起始索引小于found的范围都会被完整遍历，
+     * 所以最终的found一定是最小的匹配索引。</p>
+     */
+    private static final class IndexOfTask extends RangeTask {
+        /**
+         * 序列化版本号
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * 遍历时每隔多少个元素检查一次found
+         */
+        private static final int CHECK_INTERVAL = 1024;
+
+        private final Object array;
+        private final Object value;
+        private final AtomicInteger found;
+
+        IndexOfTask(Object array, Object value, AtomicInteger found, int from, int to) {
+            super(from, to);
+            this.array = array;
+            this.value = value;
+            this.found = found;
+        }
+
+        protected void compute() {
+            // 已经有更小的索引被找到，整个范围都可以跳过，也不必再拆分
+            if (found.get() <= from) {
+                return;
+            }
+            super.compute();
+        }
+
+        RangeTask createSubtask(int subFrom, int subTo) {
+            return new IndexOfTask(array, value, found, subFrom, subTo);
+        }
+
+        void computeDirectly() {
+            for (int start = from; start < to; start += CHECK_INTERVAL) {
+                if (found.get() <= start) {
+                    return;
+                }
+                int end = Math.min(to, start + CHECK_INTERVAL);
+                int index = scan(start, end);
+                if (index != ArrayUtils.INDEX_NOT_FOUND) {
+                    update(index);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 串行查找[start, end)范围内第一个匹配的索引
+         */
+        private int scan(int start, int end) {
+            if (array instanceof int[]) {
+                int[] a = (int[]) array;
+                int v = ((Integer) value).intValue();
+                for (int i = start; i < end; i++) {
+                    if (v == a[i]) {
+                        return i;
+                    }
+                }
+            } else if (array instanceof long[]) {
+                long[] a = (long[]) array;
+                long v = ((Long) value).longValue();
+                for (int i = start; i < end; i++) {
+                    if (v == a[i]) {
+                        return i;
+                    }
+                }
+            } else if (array instanceof double[]) {
+                double[] a = (double[]) array;
+                double v = ((Double) value).doubleValue();
+                for (int i = start; i < end; i++) {
+                    if (v == a[i]) {
+                        return i;
+                    }
+                }
+            } else {
+                Object[] a = (Object[]) array;
+                if (value == null) {
+                    for (int i = start; i < end; i++) {
+                        if (a[i] == null) {
+                            return i;
+                        }
+                    }
+                } else {
+                    for (int i = start; i < end; i++) {
+                        if (value.equals(a[i])) {
+                            return i;
+                        }
+                    }
+                }
+            }
+            return ArrayUtils.INDEX_NOT_FOUND;
+        }
+
+        /**
+         * 使用CAS将found更新为较小的索引
+         */
+        private void update(int index) {
+            int current = found.get();
+            while (index < current && !found.compareAndSet(current, index)) {
+                current = found.get();
+            }
+        }
+    }
+
+}
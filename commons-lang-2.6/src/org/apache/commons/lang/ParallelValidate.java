@@ -0,0 +1,294 @@
+package org.apache.commons.lang;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>{@link Validate}中批量校验方法的并行版本，包括noNullElements和allElementsOfType。</p>
+ * <p>当数组或者实现了{@link RandomAccess}的List（例如ArrayList）的长度不小于{@link ParallelArrayUtils#getParallelThreshold()}时，
+ * 会将它按索引范围不断二分，交给{@link ForkJoinPool#commonPool()}并行检查；长度小于阈值或者集合不支持随机访问时，直接调用{@link Validate}中对应的串行方法。</p>
+ * <p>所有方法的语义（包括抛出的异常和异常消息）都与{@link Validate}中对应的方法一致。异常消息中报告的索引总是第一个不合法的元素的索引，
+ * 与串行检查的结果相同，不会因为线程调度而变化：一旦某个子任务找到了不合法的元素，所有起始索引比它大的子任务都会直接跳过，
+ * 而起始索引比它小的子任务仍然会被完整检查。</p>
+ * <pre>
+ *     ParallelValidate.noNullElements(hugeList);
+ *     ParallelValidate.allElementsOfType(hugeArray, String.class);
+ * </pre>
+ * <p>线程安全，但调用方需要保证在校验期间没有其他线程修改传入的数组或集合。</p>
+ *
+ * @author lcl100
+ * @create 2026-10-18 19:40
+ */
+public class ParallelValidate {
+
+    /**
+     * <p><code>ParallelValidate</code>实例对象不应该被创建，相反，该类应该直接调用静态方法，如<code>ParallelValidate.noNullElements(list);</code></p>
+     */
+    public ParallelValidate() {
+        super();
+    }
+
+    // noNullElements
+    //-----------------------------------------------------------------------
+
+    /**
+     * <p>并行验证指定的参数数组既不能为null，并且也不包含任何为null的元素，与{@link Validate#noNullElements(Object[], String)}语义相同。</p>
+     *
+     * @param array   待验证的数组
+     * @param message 如果数组具有null元素则抛出指定的消息
+     * @throws IllegalArgumentException 如果数组为null或者数组中有元素为null
+     */
+    public static void noNullElements(Object[] array, String message) {
+        if (array == null || array.length < ParallelArrayUtils.getParallelThreshold()) {
+            Validate.noNullElements(array, message);
+            return;
+        }
+        if (search(array, null, null) != -1) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * <p>并行验证指定的参数数组既不能为null，并且也不包含任何为null的元素，与{@link Validate#noNullElements(Object[])}语义相同，
+     * 异常消息中给出第一个null元素的索引。</p>
+     *
+     * @param array 待验证的数组
+     * @throws IllegalArgumentException 如果数组为null或者数组中有元素为null
+     */
+    public static void noNullElements(Object[] array) {
+        if (array == null || array.length < ParallelArrayUtils.getParallelThreshold()) {
+            Validate.noNullElements(array);
+            return;
+        }
+        int i = search(array, null, null);
+        if (i != -1) {
+            throw new IllegalArgumentException("The validated array contains null element at index: " + i);
+        }
+    }
+
+    /**
+     * <p>并行验证指定的参数集合既不能为null，并且集合中的任何元素不能为null，与{@link Validate#noNullElements(Collection, String)}语义相同。</p>
+     *
+     * @param collection 待检查的Collection集合
+     * @param message    如果集合中有null元素，则抛出指定的异常提示消息
+     * @throws IllegalArgumentException 如果集合为null，或者集合中有元素为null
+     */
+    public static void noNullElements(Collection collection, String message) {
+        if (!isParallel(collection)) {
+            Validate.noNullElements(collection, message);
+            return;
+        }
+        if (search(null, (List) collection, null) != -1) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * <p>并行验证指定的参数集合既不能为null，并且集合中的任何元素不能为null，与{@link Validate#noNullElements(Collection)}语义相同，
+     * 异常消息中给出第一个null元素的索引。</p>
+     *
+     * @param collection 待检查的Collection集合
+     * @throws IllegalArgumentException 如果集合为null，或者集合中有元素为null
+     */
+    public static void noNullElements(Collection collection) {
+        if (!isParallel(collection)) {
+            Validate.noNullElements(collection);
+            return;
+        }
+        int i = search(null, (List) collection, null);
+        if (i != -1) {
+            throw new IllegalArgumentException("The validated collection contains null element at index: " + i);
+        }
+    }
+
+    // allElementsOfType
+    //-----------------------------------------------------------------------
+
+    /**
+     * <p>并行验证数组中的所有元素都是clazz类型或其子类型，与{@link Validate#allElementsOfType(Object[], Class, String)}语义相同。</p>
+     *
+     * @param array   待验证的数组
+     * @param clazz   Class类，预计数组中的元素都是该类型
+     * @param message 如果数组中具有非clazz类型的元素，则抛出异常时提示该异常信息
+     * @throws IllegalArgumentException 如果array为null，或者clazz为null，或者数组中有非clazz类型的元素
+     */
+    public static void allElementsOfType(Object[] array, Class clazz, String message) {
+        if (array == null || clazz == null || array.length < ParallelArrayUtils.getParallelThreshold()) {
+            Validate.allElementsOfType(array, clazz, message);
+            return;
+        }
+        if (search(array, null, clazz) != -1) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * <p>并行验证数组中的所有元素都是clazz类型或其子类型，与{@link Validate#allElementsOfType(Object[], Class)}语义相同，
+     * 异常消息中给出第一个不是clazz类型的元素的索引。</p>
+     *
+     * @param array 待验证的数组
+     * @param clazz Class类，预计数组中的元素都是该类型
+     * @throws IllegalArgumentException 如果array为null，或者clazz为null，或者数组中有非clazz类型的元素
+     */
+    public static void allElementsOfType(Object[] array, Class clazz) {
+        if (array == null || clazz == null || array.length < ParallelArrayUtils.getParallelThreshold()) {
+            Validate.allElementsOfType(array, clazz);
+            return;
+        }
+        int i = search(array, null, clazz);
+        if (i != -1) {
+            throw new IllegalArgumentException("The validated array contains an element not of type "
+                    + clazz.getName() + " at index: " + i);
+        }
+    }
+
+    /**
+     * <p>并行验证集合中的所有元素都是clazz类型或其子类型，与{@link Validate#allElementsOfType(Collection, Class, String)}语义相同。</p>
+     *
+     * @param collection 待验证的集合
+     * @param clazz      Class类，预计集合中的元素都是该类型
+     * @param message    如果集合中具有非clazz类型的元素，则抛出异常时提示该异常信息
+     * @throws IllegalArgumentException 如果collection为null，或者clazz为null，或者集合中有非clazz类型的元素
+     */
+    public static void allElementsOfType(Collection collection, Class clazz, String message) {
+        if (clazz == null || !isParallel(collection)) {
+            Validate.allElementsOfType(collection, clazz, message);
+            return;
+        }
+        if (search(null, (List) collection, clazz) != -1) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * <p>并行验证集合中的所有元素都是clazz类型或其子类型，与{@link Validate#allElementsOfType(Collection, Class)}语义相同，
+     * 异常消息中给出第一个不是clazz类型的元素的索引。</p>
+     *
+     * @param collection 待验证的集合
+     * @param clazz      Class类，预计集合中的元素都是该类型
+     * @throws IllegalArgumentException 如果collection为null，或者clazz为null，或者集合中有非clazz类型的元素
+     */
+    public static void allElementsOfType(Collection collection, Class clazz) {
+        if (clazz == null || !isParallel(collection)) {
+            Validate.allElementsOfType(collection, clazz);
+            return;
+        }
+        int i = search(null, (List) collection, clazz);
+        if (i != -1) {
+            throw new IllegalArgumentException("The validated collection contains an element not of type "
+                    + clazz.getName() + " at index: " + i);
+        }
+    }
+
+    /**
+     * 判断集合是否适合并行检查：必须是支持随机访问的List，并且长度不小于并行阈值。
+     *
+     * @param collection 待检查的集合，可能为null
+     * @return 如果适合并行检查则返回true
+     */
+    private static boolean isParallel(Collection collection) {
+        return collection instanceof List && collection instanceof RandomAccess
+                && collection.size() >= ParallelArrayUtils.getParallelThreshold();
+    }
+
+    /**
+     * 并行查找的入口，array和list有且只有一个不为null。
+     *
+     * @param array 待检查的数组
+     * @param list  待检查的List
+     * @param clazz 元素应该属于的类型，null表示查找null元素
+     * @return 第一个不合法的元素的索引，如果都合法则返回-1
+     */
+    private static int search(Object[] array, List list, Class clazz) {
+        AtomicInteger found = new AtomicInteger(Integer.MAX_VALUE);
+        int size = array != null ? array.length : list.size();
+        ForkJoinPool.commonPool().invoke(new FindInvalidTask(array, list, clazz, found, 0, size));
+        int index = found.get();
+        return index == Integer.MAX_VALUE ? -1 : index;
+    }
+
+    /**
+     * <p>查找不合法元素的任务。所有子任务共享同一个found，保存目前为止找到的最小索引，处理方式与{@link ParallelArrayUtils}中的查找任务相同：
+     * 起始索引不小于found的范围直接跳过，遍历过程中也定期检查found，所以最终的found一定是最小的不合法元素的索引。</p>
+     */
+    private static final class FindInvalidTask extends RecursiveAction {
+        /**
+         * 序列化版本号
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * 遍历时每隔多少个元素检查一次found
+         */
+        private static final int CHECK_INTERVAL = 1024;
+
+        private final Object[] array;
+        private final List list;
+        private final Class clazz;
+        private final AtomicInteger found;
+        /**
+         * 范围起始索引（包含）
+         */
+        private final int from;
+        /**
+         * 范围结束索引（不包含）
+         */
+        private final int to;
+
+        FindInvalidTask(Object[] array, List list, Class clazz, AtomicInteger found, int from, int to) {
+            this.array = array;
+            this.list = list;
+            this.clazz = clazz;
+            this.found = found;
+            this.from = from;
+            this.to = to;
+        }
+
+        protected void compute() {
+            // 已经有更小的索引被找到，整个范围都可以跳过，也不必再拆分
+            if (found.get() <= from) {
+                return;
+            }
+            if (to - from <= ParallelArrayUtils.getParallelThreshold()) {
+                computeDirectly();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new FindInvalidTask(array, list, clazz, found, from, mid),
+                    new FindInvalidTask(array, list, clazz, found, mid, to));
+        }
+
+        private void computeDirectly() {
+            // 每个子任务使用自己的类型缓存，不需要同步
+            Class[] accepted = clazz == null ? null : Validate.newClassCache();
+            for (int start = from; start < to; start += CHECK_INTERVAL) {
+                if (found.get() <= start) {
+                    return;
+                }
+                int end = Math.min(to, start + CHECK_INTERVAL);
+                for (int i = start; i < end; i++) {
+                    Object element = array != null ? array[i] : list.get(i);
+                    if (clazz == null ? element == null : !Validate.isInstance(clazz, element, accepted)) {
+                        update(i);
+                        return;
+                    }
+                }
+            }
+        }
+
+        /**
+         * 使用CAS将found更新为较小的索引
+         */
+        private void update(int index) {
+            int current = found.get();
+            while (index < current && !found.compareAndSet(current, index)) {
+                current = found.get();
+            }
+        }
+    }
+
+}
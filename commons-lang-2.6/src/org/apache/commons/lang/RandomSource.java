@@ -0,0 +1,159 @@
+package org.apache.commons.lang;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>{@link RandomStringUtils}使用的随机数来源。</p>
+ * <p>{@link java.util.Random}的所有实例方法都通过CAS更新同一个种子，多个线程同时使用一个共享的Random实例时会在种子上产生激烈的竞争。
+ * 该类将随机数来源抽象出来，除了可以包装任意的Random实例之外，还提供了不需要共享状态的线程本地实现：</p>
+ * <ul>
+ *     <li>{@link #threadLocal()}：使用{@link ThreadLocalRandom}，每个线程有自己的随机数生成器，没有任何竞争</li>
+ *     <li>{@link #splittable()}：每个线程第一次使用时从一个根{@link SplittableRandom}中拆分出自己的实例，统计质量更好</li>
+ *     <li>{@link #secure()}：密码学安全的随机数来源，每个线程使用自己的DRBG并批量生成随机字节，参考{@link SecureRandomSource}</li>
+ *     <li>{@link #of(Random)}：包装调用者提供的Random实例，例如使用固定种子来生成可重复的随机序列</li>
+ * </ul>
+ * <p>线程安全性取决于具体的实现，上面的工厂方法中，前三个返回的实例是线程安全的，最后一个与被包装的Random实例相同。</p>
+ *
+ * @author lcl100
+ * @create 2026-10-18 10:05
+ */
+public abstract class RandomSource {
+
+    /**
+     * 使用ThreadLocalRandom的单例
+     */
+    private static final RandomSource THREAD_LOCAL = new ThreadLocalRandomSource();
+
+    /**
+     * 每个线程一个SplittableRandom的单例
+     */
+    private static final RandomSource SPLITTABLE = new SplittableRandomSource();
+
+    /**
+     * 构造方法，供子类使用。
+     */
+    protected RandomSource() {
+        super();
+    }
+
+    /**
+     * 返回一个[0, bound)范围内均匀分布的随机整数。
+     *
+     * @param bound 上界（不包含），必须大于0
+     * @return 随机整数
+     * @throws IllegalArgumentException 如果bound小于等于0
+     */
+    public abstract int nextInt(int bound);
+
+    /**
+     * 返回一个64位均匀分布的随机整数，所有long值出现的概率都相同。
+     *
+     * @return 随机整数
+     */
+    public abstract long nextLong();
+
+    /**
+     * 获取使用{@link ThreadLocalRandom}的随机数来源，这也是{@link RandomStringUtils}默认使用的随机数来源。
+     *
+     * @return 线程安全并且没有竞争的随机数来源
+     */
+    public static RandomSource threadLocal() {
+        return THREAD_LOCAL;
+    }
+
+    /**
+     * 获取每个线程使用自己的{@link SplittableRandom}的随机数来源。
+     *
+     * @return 线程安全并且没有竞争的随机数来源
+     */
+    public static RandomSource splittable() {
+        return SPLITTABLE;
+    }
+
+    /**
+     * 获取共享的密码学安全的随机数来源，使用默认的缓冲区大小和重新播种间隔，第一次调用时才创建。
+     *
+     * @return 线程安全的{@link SecureRandomSource}
+     */
+    public static RandomSource secure() {
+        return SecureHolder.INSTANCE;
+    }
+
+    /**
+     * 包装指定的{@link Random}实例。
+     *
+     * @param random 被包装的Random实例
+     * @return 随机数来源，它的线程安全性和并发性能与被包装的Random实例相同
+     */
+    public static RandomSource of(Random random) {
+        return new JdkRandomSource(random);
+    }
+
+    /**
+     * 延迟创建共享的{@link SecureRandomSource}，只有用到时才加载该类。
+     */
+    private static final class SecureHolder {
+        private static final SecureRandomSource INSTANCE = new SecureRandomSource();
+    }
+
+    /**
+     * 包装{@link Random}实例的实现。
+     */
+    private static final class JdkRandomSource extends RandomSource {
+        private final Random random;
+
+        JdkRandomSource(Random random) {
+            this.random = random;
+        }
+
+        public int nextInt(int bound) {
+            return random.nextInt(bound);
+        }
+
+        public long nextLong() {
+            return random.nextLong();
+        }
+    }
+
+    /**
+     * 使用{@link ThreadLocalRandom}的实现，每次调用都获取当前线程的实例。
+     */
+    private static final class ThreadLocalRandomSource extends RandomSource {
+        public int nextInt(int bound) {
+            return ThreadLocalRandom.current().nextInt(bound);
+        }
+
+        public long nextLong() {
+            return ThreadLocalRandom.current().nextLong();
+        }
+    }
+
+    /**
+     * 每个线程使用自己的{@link SplittableRandom}的实现。
+     */
+    private static final class SplittableRandomSource extends RandomSource {
+        /**
+         * 根生成器，每个线程的实例都从它拆分出来。SplittableRandom不是线程安全的，所以拆分时需要同步，但每个线程只会拆分一次
+         */
+        private final SplittableRandom root = new SplittableRandom();
+
+        private final ThreadLocal current = new ThreadLocal() {
+            protected Object initialValue() {
+                synchronized (root) {
+                    return root.split();
+                }
+            }
+        };
+
+        public int nextInt(int bound) {
+            return ((SplittableRandom) current.get()).nextInt(bound);
+        }
+
+        public long nextLong() {
+            return ((SplittableRandom) current.get()).nextLong();
+        }
+    }
+
+}
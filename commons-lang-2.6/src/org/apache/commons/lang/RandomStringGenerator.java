@@ -0,0 +1,651 @@
+package org.apache.commons.lang;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * <p>预先编译好字符表的随机字符串生成器。</p>
+ * <p>{@link RandomStringUtils#random(int, int, int, boolean, boolean, char[], java.util.Random)}每次都从整个[start, end)范围内抽取一个字符，
+ * 再用{@link Character#isLetter(char)}、{@link Character#isDigit(char)}判断是否符合要求，不符合就通过count++重新抽取。
+ * 当范围很大而符合要求的字符很少时（例如start=0、end=Integer.MAX_VALUE并且只要字母），绝大部分随机数都被浪费了。</p>
+ * <p>该类在创建时就把所有符合要求的码点（code point）计算出来保存成表，生成时只需要在[0, 表的大小)范围内均匀抽取一个下标，
+ * 不会再抽取到不符合要求的字符后重试：</p>
+ * <pre>
+ *     RandomStringGenerator generator = RandomStringGenerator.forRange(0, 0, true, true);
+ *     String token = generator.generate(32);
+ * </pre>
+ * <p>字符表对代理字符（surrogate）是感知的：单独的代理字符永远不会被选中，范围超过0xFFFF时，增补字符作为一个完整的码点被选中，
+ * 输出为一对代理字符。与{@link RandomStringUtils}一样，第15、16平面的私有增补字符（U+F0000之后，由私有高代理字符组成）被忽略。</p>
+ * <p>生成时不再为每个字符调用一次nextInt()，而是每次从随机数来源取一个64位的long，将它切分成若干段，
+ * 每段用Lemire的乘法移位方法映射成一个下标：把b位的随机数r乘以字符表大小s，乘积的高位就是下标，低位小于2^b mod s时拒绝这一段以消除偏差。
+ * 例如62个字母和数字每段需要6位，一个long可以切出10个下标，拒绝率只有2/64，生成32个字符大约只需要4次随机数调用。</p>
+ * <p>需要大量生成时，可以使用{@link #generate(int, int)}、{@link #fill(String[], int)}一次生成多个字符串，它们共用同一个临时缓冲区；
+ * 或者使用{@link #generateInto(char[], int, int)}、{@link #generateInto(byte[], int, int)}直接写入调用者复用的数组，不创建任何对象。</p>
+ * <p>字符表较小时（不超过65536个码点）直接保存为平铺的int[]数组，抽取时只需一次数组访问；
+ * 较大时保存为若干个连续的码点区间及其前缀计数，抽取时在区间上二分查找，避免为整个Unicode范围分配数MB的内存。</p>
+ * <p>线程安全，实例是不可变的，可以在多个线程之间共享。</p>
+ *
+ * @author lcl100
+ * @create 2026-10-18 11:20
+ */
+public final class RandomStringGenerator {
+
+    /**
+     * 常量，字符表的码点个数不超过该值时保存为平铺的数组
+     */
+    private static final int TABLE_LIMIT = 1 << 16;
+
+    /**
+     * 常量，参与选择的最大码点（包含），即第14平面的最后一个码点
+     */
+    private static final int MAX_CODE_POINT = 0xEFFFF;
+
+    /**
+     * 平铺的码点表，table[i]就是第i个可选的码点；如果码点太多则为null，改用区间表
+     */
+    private final int[] table;
+    /**
+     * 区间表，每个区间的第一个码点
+     */
+    private final int[] rangeStarts;
+    /**
+     * 区间表，rangeOffsets[i]为前i个区间中的码点总数，长度比rangeStarts多1，最后一个元素就是码点总数
+     */
+    private final int[] rangeOffsets;
+    /**
+     * 可选的码点总数
+     */
+    private final int size;
+    /**
+     * 每个下标消耗的随机位数b，即能够表示size-1的最少位数
+     */
+    private final int bits;
+    /**
+     * b位全为1的掩码
+     */
+    private final long bitMask;
+    /**
+     * 拒绝阈值，即2^b mod size，乘积的低b位小于该值时拒绝
+     */
+    private final long threshold;
+    /**
+     * 是否包含增补字符，即生成的字符串长度是否可能超过码点个数
+     */
+    private final boolean supplementary;
+    /**
+     * 是否所有字符都不超过0xFF，即能否按ISO-8859-1编码写成单个字节
+     */
+    private final boolean latin1;
+    /**
+     * 随机数来源，null表示每次生成时使用{@link RandomStringUtils#getDefaultRandomSource()}
+     */
+    private final RandomSource random;
+
+    /**
+     * 构造方法，根据码点区间创建生成器。
+     *
+     * @param starts        每个区间的第一个码点
+     * @param ends          每个区间的最后一个码点之后的码点，与starts平行
+     * @param supplementary 是否包含增补字符
+     * @param random        随机数来源，可能为null
+     */
+    private RandomStringGenerator(int[] starts, int[] ends, boolean supplementary, RandomSource random) {
+        int[] offsets = new int[starts.length + 1];
+        for (int i = 0; i < starts.length; i++) {
+            offsets[i + 1] = offsets[i] + (ends[i] - starts[i]);
+        }
+        this.size = offsets[starts.length];
+        if (size == 0) {
+            throw new IllegalArgumentException("No characters are available to generate from");
+        }
+        if (size <= TABLE_LIMIT) {
+            // 码点不多，直接展开成平铺的数组
+            int[] flat = new int[size];
+            int n = 0;
+            for (int i = 0; i < starts.length; i++) {
+                for (int cp = starts[i]; cp < ends[i]; cp++) {
+                    flat[n++] = cp;
+                }
+            }
+            this.table = flat;
+            this.rangeStarts = null;
+            this.rangeOffsets = null;
+        } else {
+            this.table = null;
+            this.rangeStarts = starts;
+            this.rangeOffsets = offsets;
+        }
+        int b = 32 - Integer.numberOfLeadingZeros(size - 1);
+        this.bits = b == 0 ? 1 : b;
+        this.bitMask = (1L << bits) - 1;
+        this.threshold = (1L << bits) % size;
+        this.latin1 = max(ends) <= 0x100;
+        this.supplementary = supplementary;
+        this.random = random;
+    }
+
+    /**
+     * 复制构造方法，共享字符表，只替换随机数来源。
+     *
+     * @param other  被复制的生成器
+     * @param random 新的随机数来源，可能为null
+     */
+    private RandomStringGenerator(RandomStringGenerator other, RandomSource random) {
+        this.table = other.table;
+        this.rangeStarts = other.rangeStarts;
+        this.rangeOffsets = other.rangeOffsets;
+        this.size = other.size;
+        this.bits = other.bits;
+        this.bitMask = other.bitMask;
+        this.threshold = other.threshold;
+        this.latin1 = other.latin1;
+        this.supplementary = other.supplementary;
+        this.random = random;
+    }
+
+    /**
+     * <p>根据码点范围创建生成器，参数的含义与{@link RandomStringUtils#random(int, int, int, boolean, boolean)}相同：</p>
+     * <ul>
+     *     <li>如果start和end都是0，并且letters或numbers为true，则范围为ASCII可打印字符[' ', 'z']</li>
+     *     <li>如果start和end都是0，并且letters和numbers都为false，则范围为全部字符</li>
+     *     <li>letters为true时选择字母，numbers为true时选择数字，都为false时不做筛选</li>
+     * </ul>
+     * <p>与RandomStringUtils不同的是，end大于0xFFFF时增补字符也会作为完整的码点参与选择，而不是被截断成char。</p>
+     *
+     * @param start   第一个码点（包含）
+     * @param end     最后一个码点之后的码点（不包含）
+     * @param letters 如果为true，则选择字母字符
+     * @param numbers 如果为true，则选择数字字符
+     * @return 生成器
+     * @throws IllegalArgumentException 如果start小于0、end不大于start或者范围内没有符合要求的字符
+     */
+    public static RandomStringGenerator forRange(int start, int end, boolean letters, boolean numbers) {
+        if (start == 0 && end == 0) {
+            if (letters || numbers) {
+                start = ' ';
+                end = 'z' + 1;
+            } else {
+                end = Integer.MAX_VALUE;
+            }
+        }
+        if (start < 0 || end <= start) {
+            throw new IllegalArgumentException("Invalid code point range [" + start + ", " + end + ")");
+        }
+        if (end > MAX_CODE_POINT + 1) {
+            end = MAX_CODE_POINT + 1;
+        }
+        IntArrayBuilder starts = new IntArrayBuilder();
+        IntArrayBuilder ends = new IntArrayBuilder();
+        int rangeStart = -1;
+        for (int cp = start; cp < end; cp++) {
+            if (accept(cp, letters, numbers)) {
+                if (rangeStart < 0) {
+                    rangeStart = cp;
+                }
+            } else if (rangeStart >= 0) {
+                // 连续的可选码点到此为止，记录为一个区间
+                starts.add(rangeStart);
+                ends.add(cp);
+                rangeStart = -1;
+            }
+        }
+        if (rangeStart >= 0) {
+            starts.add(rangeStart);
+            ends.add(end);
+        }
+        return new RandomStringGenerator(starts.toArray(), ends.toArray(), end > 0x10000, null);
+    }
+
+    /**
+     * <p>根据给定的字符数组创建生成器，与{@link RandomStringUtils#random(int, char[])}相同，每个字符被选中的概率与它在数组中出现的次数成正比。
+     * 数组中相邻的一对高代理字符和低代理字符被当作一个增补字符，单独的代理字符被忽略。</p>
+     *
+     * @param chars 可选的字符，不能为null
+     * @return 生成器
+     * @throws IllegalArgumentException 如果chars为null或者没有可选的字符
+     */
+    public static RandomStringGenerator fromChars(char[] chars) {
+        return fromChars(chars, false, false);
+    }
+
+    /**
+     * <p>根据给定的字符数组创建生成器，并按letters和numbers筛选，与{@link RandomStringUtils#random(int, int, int, boolean, boolean, char[])}相同。</p>
+     *
+     * @param chars   可选的字符，不能为null
+     * @param letters 如果为true，则选择字母字符
+     * @param numbers 如果为true，则选择数字字符
+     * @return 生成器
+     * @throws IllegalArgumentException 如果chars为null或者筛选后没有可选的字符
+     */
+    public static RandomStringGenerator fromChars(char[] chars, boolean letters, boolean numbers) {
+        if (chars == null) {
+            throw new IllegalArgumentException("The chars must not be null");
+        }
+        IntArrayBuilder starts = new IntArrayBuilder(chars.length);
+        IntArrayBuilder ends = new IntArrayBuilder(chars.length);
+        boolean supplementary = false;
+        for (int i = 0; i < chars.length; i++) {
+            int cp = chars[i];
+            if (Character.isHighSurrogate(chars[i])) {
+                if (i + 1 < chars.length && Character.isLowSurrogate(chars[i + 1])) {
+                    cp = Character.toCodePoint(chars[i], chars[i + 1]);
+                    i++;
+                } else {
+                    continue;
+                }
+            } else if (Character.isLowSurrogate(chars[i])) {
+                continue;
+            }
+            if (cp > MAX_CODE_POINT || !accept(cp, letters, numbers)) {
+                continue;
+            }
+            // 每个字符单独作为一个区间，重复的字符不合并，保留它的权重
+            starts.add(cp);
+            ends.add(cp + 1);
+            supplementary |= cp >= 0x10000;
+        }
+        return new RandomStringGenerator(starts.toArray(), ends.toArray(), supplementary, null);
+    }
+
+    /**
+     * 根据给定的字符串创建生成器，等价于fromChars(chars.toCharArray())。
+     *
+     * @param chars 包含可选字符的字符串，不能为null
+     * @return 生成器
+     * @throws IllegalArgumentException 如果chars为null或者没有可选的字符
+     */
+    public static RandomStringGenerator fromString(String chars) {
+        if (chars == null) {
+            throw new IllegalArgumentException("The chars must not be null");
+        }
+        return fromChars(chars.toCharArray());
+    }
+
+    /**
+     * 返回一个使用指定随机数来源的生成器，字符表是共享的，不需要重新计算。
+     *
+     * @param random 随机数来源，null表示使用{@link RandomStringUtils#getDefaultRandomSource()}
+     * @return 新的生成器
+     */
+    public RandomStringGenerator withRandomSource(RandomSource random) {
+        return new RandomStringGenerator(this, random);
+    }
+
+    /**
+     * 获取可选的码点总数。
+     *
+     * @return 码点总数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * <p>生成包含count个码点的随机字符串。字符表中没有增补字符时，字符串的长度就是count；否则每个增补字符占两个char，字符串可能更长。</p>
+     *
+     * @param count 码点个数
+     * @return 随机字符串
+     * @throws IllegalArgumentException 如果count小于0，或者字符表包含增补字符且count大于Integer.MAX_VALUE / 2
+     */
+    public String generate(int count) {
+        return generate(count, random == null ? RandomStringUtils.getDefaultRandomSource() : random);
+    }
+
+    /**
+     * 使用指定的随机数来源生成包含count个码点的随机字符串。
+     *
+     * @param count  码点个数
+     * @param random 随机数来源，不能为null
+     * @return 随机字符串
+     * @throws IllegalArgumentException 如果count小于0，或者字符表包含增补字符且count大于Integer.MAX_VALUE / 2
+     */
+    public String generate(int count, RandomSource random) {
+        if (count == 0) {
+            return "";
+        } else if (count < 0) {
+            throw new IllegalArgumentException("Requested random string length " + count + " is less than 0.");
+        }
+        char[] buffer = new char[bufferLength(count)];
+        int n = appendCodePoints(buffer, 0, count, new Harvester(random));
+        return new String(buffer, 0, n);
+    }
+
+    /**
+     * <p>一次生成howMany个随机字符串，每个字符串包含count个码点。</p>
+     * <p>与循环调用{@link #generate(int)}相比，所有字符串共用一个临时字符缓冲区，并且上一个字符串没有用完的随机位会留给下一个字符串继续使用。</p>
+     *
+     * @param count   每个字符串的码点个数
+     * @param howMany 字符串的个数
+     * @return 随机字符串数组
+     * @throws IllegalArgumentException 如果count或howMany小于0
+     */
+    public String[] generate(int count, int howMany) {
+        if (howMany < 0) {
+            throw new IllegalArgumentException("Requested number of random strings " + howMany + " is less than 0.");
+        }
+        String[] out = new String[howMany];
+        fill(out, count);
+        return out;
+    }
+
+    /**
+     * 用包含count个码点的随机字符串填满数组out，所有字符串共用一个临时字符缓冲区。
+     *
+     * @param out   待填充的数组，不能为null
+     * @param count 每个字符串的码点个数
+     * @throws IllegalArgumentException 如果out为null、count小于0，或者字符表包含增补字符且count大于Integer.MAX_VALUE / 2
+     */
+    public void fill(String[] out, int count) {
+        fill(out, count, random == null ? RandomStringUtils.getDefaultRandomSource() : random);
+    }
+
+    /**
+     * 使用指定的随机数来源，用包含count个码点的随机字符串填满数组out。
+     *
+     * @param out    待填充的数组，不能为null
+     * @param count  每个字符串的码点个数
+     * @param random 随机数来源，不能为null
+     * @throws IllegalArgumentException 如果out为null、count小于0，或者字符表包含增补字符且count大于Integer.MAX_VALUE / 2
+     */
+    public void fill(String[] out, int count, RandomSource random) {
+        if (out == null) {
+            throw new IllegalArgumentException("The output array must not be null");
+        }
+        if (count < 0) {
+            throw new IllegalArgumentException("Requested random string length " + count + " is less than 0.");
+        }
+        if (count == 0) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = "";
+            }
+            return;
+        }
+        char[] buffer = new char[bufferLength(count)];
+        Harvester harvester = new Harvester(random);
+        for (int i = 0; i < out.length; i++) {
+            int n = appendCodePoints(buffer, 0, count, harvester);
+            out[i] = new String(buffer, 0, n);
+        }
+    }
+
+    /**
+     * 计算容纳count个码点所需的字符缓冲区长度。字符表包含增补字符时每个码点最多占两个char，count * 2可能溢出，所以先检查count的上限。
+     *
+     * @param count 码点个数，不小于0
+     * @return 字符缓冲区长度
+     * @throws IllegalArgumentException 如果字符表包含增补字符且count大于Integer.MAX_VALUE / 2
+     */
+    private int bufferLength(int count) {
+        if (!supplementary) {
+            return count;
+        }
+        if (count > Integer.MAX_VALUE / 2) {
+            throw new IllegalArgumentException("Requested random string length " + count + " is too large for supplementary characters.");
+        }
+        return count * 2;
+    }
+
+    /**
+     * <p>将len个随机字符直接写入字符数组dest中从offset开始的位置，不创建任何对象。</p>
+     * <p>因为一个增补字符占两个char，无法保证正好写满len个位置，所以该方法只能用于不包含增补字符的字符表。</p>
+     *
+     * @param dest   目标数组，不能为null
+     * @param offset 起始位置
+     * @param len    写入的字符个数
+     * @throws IllegalArgumentException  如果dest为null
+     * @throws IndexOutOfBoundsException 如果offset和len超出dest的范围
+     * @throws IllegalStateException     如果字符表包含增补字符
+     */
+    public void generateInto(char[] dest, int offset, int len) {
+        generateInto(dest, offset, len, random == null ? RandomStringUtils.getDefaultRandomSource() : random);
+    }
+
+    /**
+     * 使用指定的随机数来源，将len个随机字符直接写入字符数组dest中从offset开始的位置。
+     *
+     * @param dest   目标数组，不能为null
+     * @param offset 起始位置
+     * @param len    写入的字符个数
+     * @param random 随机数来源，不能为null
+     * @throws IllegalArgumentException  如果dest为null
+     * @throws IndexOutOfBoundsException 如果offset和len超出dest的范围
+     * @throws IllegalStateException     如果字符表包含增补字符
+     */
+    public void generateInto(char[] dest, int offset, int len, RandomSource random) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination array must not be null");
+        }
+        checkRange(dest.length, offset, len);
+        if (supplementary) {
+            throw new IllegalStateException("Cannot write supplementary characters into a fixed-length char range");
+        }
+        appendCodePoints(dest, offset, len, new Harvester(random));
+    }
+
+    /**
+     * <p>将len个随机字符按ISO-8859-1（Latin-1）编码直接写入字节数组dest中从offset开始的位置，每个字符一个字节。</p>
+     * <p>适合随后需要转换成字节发送的场景，省去char[]、String和getBytes()的中间对象。该方法只能用于所有字符都不超过0xFF的字符表，
+     * 例如字母、数字和ASCII字符，对于ASCII字符表，结果同时也是合法的US-ASCII和UTF-8编码。</p>
+     *
+     * @param dest   目标数组，不能为null
+     * @param offset 起始位置
+     * @param len    写入的字符个数
+     * @throws IllegalArgumentException  如果dest为null
+     * @throws IndexOutOfBoundsException 如果offset和len超出dest的范围
+     * @throws IllegalStateException     如果字符表包含大于0xFF的字符
+     */
+    public void generateInto(byte[] dest, int offset, int len) {
+        generateInto(dest, offset, len, random == null ? RandomStringUtils.getDefaultRandomSource() : random);
+    }
+
+    /**
+     * 使用指定的随机数来源，将len个随机字符按ISO-8859-1（Latin-1）编码直接写入字节数组dest中从offset开始的位置。
+     *
+     * @param dest   目标数组，不能为null
+     * @param offset 起始位置
+     * @param len    写入的字符个数
+     * @param random 随机数来源，不能为null
+     * @throws IllegalArgumentException  如果dest为null
+     * @throws IndexOutOfBoundsException 如果offset和len超出dest的范围
+     * @throws IllegalStateException     如果字符表包含大于0xFF的字符
+     */
+    public void generateInto(byte[] dest, int offset, int len, RandomSource random) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination array must not be null");
+        }
+        checkRange(dest.length, offset, len);
+        if (!latin1) {
+            throw new IllegalStateException("Cannot write characters above 0xFF as single bytes");
+        }
+        Harvester harvester = new Harvester(random);
+        int end = offset + len;
+        for (int i = offset; i < end; i++) {
+            dest[i] = (byte) codePointAt(nextIndex(harvester));
+        }
+    }
+
+    /**
+     * <p>将len个随机字符按ISO-8859-1（Latin-1）编码写入字节缓冲区dest的当前位置，写入后position增加len。</p>
+     * <p>堆缓冲区直接写入它的底层数组，直接缓冲区（direct buffer）则逐个字节put()，都不会创建中间的char[]或String。</p>
+     *
+     * @param dest 目标缓冲区，不能为null
+     * @param len  写入的字符个数
+     * @throws IllegalArgumentException 如果dest为null或者len小于0
+     * @throws BufferOverflowException  如果dest剩余的空间小于len
+     * @throws IllegalStateException    如果字符表包含大于0xFF的字符
+     * @throws java.nio.ReadOnlyBufferException 如果dest是只读的
+     */
+    public void generateInto(ByteBuffer dest, int len) {
+        generateInto(dest, len, random == null ? RandomStringUtils.getDefaultRandomSource() : random);
+    }
+
+    /**
+     * 使用指定的随机数来源，将len个随机字符按ISO-8859-1（Latin-1）编码写入字节缓冲区dest的当前位置。
+     *
+     * @param dest   目标缓冲区，不能为null
+     * @param len    写入的字符个数
+     * @param random 随机数来源，不能为null
+     * @throws IllegalArgumentException 如果dest为null或者len小于0
+     * @throws BufferOverflowException  如果dest剩余的空间小于len
+     * @throws IllegalStateException    如果字符表包含大于0xFF的字符
+     * @throws java.nio.ReadOnlyBufferException 如果dest是只读的
+     */
+    public void generateInto(ByteBuffer dest, int len, RandomSource random) {
+        if (dest == null) {
+            throw new IllegalArgumentException("The destination buffer must not be null");
+        }
+        if (len < 0) {
+            throw new IllegalArgumentException("Requested random string length " + len + " is less than 0.");
+        }
+        if (dest.remaining() < len) {
+            throw new BufferOverflowException();
+        }
+        if (!latin1) {
+            throw new IllegalStateException("Cannot write characters above 0xFF as single bytes");
+        }
+        int position = dest.position();
+        if (dest.hasArray()) {
+            // 堆缓冲区，直接写入底层数组
+            generateInto(dest.array(), dest.arrayOffset() + position, len, random);
+        } else {
+            Harvester harvester = new Harvester(random);
+            for (int i = 0; i < len; i++) {
+                dest.put(position + i, (byte) codePointAt(nextIndex(harvester)));
+            }
+        }
+        dest.position(position + len);
+    }
+
+    /**
+     * 生成count个码点写入buffer中从offset开始的位置，增补字符写成一对代理字符。
+     *
+     * @param buffer    目标数组，剩余空间必须足够
+     * @param offset    起始位置
+     * @param count     码点个数
+     * @param harvester 随机位的来源
+     * @return 写入后的下一个位置
+     */
+    private int appendCodePoints(char[] buffer, int offset, int count, Harvester harvester) {
+        int n = offset;
+        for (int i = 0; i < count; i++) {
+            int cp = codePointAt(nextIndex(harvester));
+            if (cp < 0x10000) {
+                buffer[n++] = (char) cp;
+            } else {
+                // 增补字符，拆分成高代理字符和低代理字符
+                cp -= 0x10000;
+                buffer[n++] = (char) (0xD800 + (cp >>> 10));
+                buffer[n++] = (char) (0xDC00 + (cp & 0x3FF));
+            }
+        }
+        return n;
+    }
+
+    /**
+     * 从harvester中切出b位随机数，用乘法移位映射成[0, size)范围内均匀分布的下标。
+     *
+     * @param harvester 随机位的来源
+     * @return 下标
+     */
+    private int nextIndex(Harvester harvester) {
+        while (true) {
+            if (harvester.available < bits) {
+                harvester.word = harvester.random.nextLong();
+                harvester.available = 64;
+            }
+            long m = (harvester.word & bitMask) * size;
+            harvester.word >>>= bits;
+            harvester.available -= bits;
+            // 乘积的低b位不小于阈值时，高位在[0, size)上是均匀分布的
+            if ((m & bitMask) >= threshold) {
+                return (int) (m >>> bits);
+            }
+        }
+    }
+
+    /**
+     * 检查[offset, offset + len)是否在长度为length的数组范围内。
+     *
+     * @param length 数组长度
+     * @param offset 起始位置
+     * @param len    个数
+     * @throws IndexOutOfBoundsException 如果超出范围
+     */
+    private static void checkRange(int length, int offset, int len) {
+        if (offset < 0 || len < 0 || offset > length - len) {
+            throw new IndexOutOfBoundsException("Offset: " + offset + ", Len: " + len + ", Length: " + length);
+        }
+    }
+
+    /**
+     * 获取字符表中第index个码点。
+     *
+     * @param index 下标，范围为[0, size)
+     * @return 码点
+     */
+    int codePointAt(int index) {
+        if (table != null) {
+            return table[index];
+        }
+        // 二分查找满足rangeOffsets[i] <= index的最大的i
+        int low = 0;
+        int high = rangeStarts.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (rangeOffsets[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return rangeStarts[low] + (index - rangeOffsets[low]);
+    }
+
+    /**
+     * 判断码点是否可选：代理字符和第15、16平面的私有增补字符永远不可选，然后按letters和numbers筛选。
+     *
+     * @param cp      码点
+     * @param letters 如果为true，则选择字母字符
+     * @param numbers 如果为true，则选择数字字符
+     * @return 如果可选则返回true
+     */
+    private static boolean accept(int cp, boolean letters, boolean numbers) {
+        if (cp >= 0xD800 && cp <= 0xDFFF) {
+            return false;
+        }
+        if (!letters && !numbers) {
+            return true;
+        }
+        return (letters && Character.isLetter(cp)) || (numbers && Character.isDigit(cp));
+    }
+
+    /**
+     * 获取数组中的最大值。
+     *
+     * @param array 数组，不能为空
+     * @return 最大值
+     */
+    private static int max(int[] array) {
+        int max = array[0];
+        for (int i = 1; i < array.length; i++) {
+            if (array[i] > max) {
+                max = array[i];
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 一次生成过程中的随机位状态：当前正在切分的64位随机数，以及其中还没有使用的位数。
+     */
+    private static final class Harvester {
+        private final RandomSource random;
+        private long word;
+        private int available;
+
+        Harvester(RandomSource random) {
+            this.random = random;
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.apache.commons.lang;
 
+import java.nio.ByteBuffer;
 import java.util.Random;
 
 /**
@@ -17,10 +18,28 @@ import java.util.Random;
 public class RandomStringUtils {
 
     /**
-     * <p>随机方法使用的随机对象。必须不是不同的Random对象，因为不同的Random对象在有限的范围内同一毫秒内返回相同的值的概率更大，而共用同一个Random实例对象返回相同值的概率要小一些。</p>
-     * <p>思考：为什么呢？</p>
+     * <p>没有指定随机源的方法所使用的默认随机源。</p>
+     * <p>原来使用的是一个共享的静态{@link Random}实例，Random的每次调用都要通过CAS更新同一个种子，多线程并发生成随机字符串时会在种子上产生激烈的竞争。
+     * 现在默认使用{@link RandomSource#threadLocal()}，每个线程有自己的随机数生成器，可以通过{@link #setDefaultRandomSource(RandomSource)}替换。</p>
      */
-    private static final Random RANDOM = new Random();
+    private static volatile RandomSource defaultRandomSource = RandomSource.threadLocal();
+
+    /**
+     * ASCII可打印字符[32, 127)的生成器，字符表在类加载时计算一次
+     */
+    private static final RandomStringGenerator ASCII = RandomStringGenerator.forRange(32, 127, false, false);
+    /**
+     * 字母字符的生成器
+     */
+    private static final RandomStringGenerator ALPHABETIC = RandomStringGenerator.forRange(0, 0, true, false);
+    /**
+     * 字母和数字字符的生成器
+     */
+    private static final RandomStringGenerator ALPHANUMERIC = RandomStringGenerator.forRange(0, 0, true, true);
+    /**
+     * 数字字符的生成器
+     */
+    private static final RandomStringGenerator NUMERIC = RandomStringGenerator.forRange(0, 0, false, true);
 
     /**
      * <p><code>RandomStringUtils</code>实例对象不应该被创建，相反，该类应该直接调用静态方法，如<code>RandomStringUtils.random(5);</code></p>
@@ -29,6 +48,28 @@ public class RandomStringUtils {
         super();
     }
 
+    /**
+     * 获取没有指定随机源的方法所使用的默认随机源。
+     *
+     * @return 默认随机源，默认为{@link RandomSource#threadLocal()}
+     */
+    public static RandomSource getDefaultRandomSource() {
+        return defaultRandomSource;
+    }
+
+    /**
+     * <p>设置没有指定随机源的方法所使用的默认随机源，例如设置为{@link RandomSource#splittable()}。</p>
+     *
+     * @param source 新的默认随机源，不能为null，并且必须是线程安全的
+     * @throws IllegalArgumentException 如果source为null
+     */
+    public static void setDefaultRandomSource(RandomSource source) {
+        if (source == null) {
+            throw new IllegalArgumentException("The random source must not be null");
+        }
+        defaultRandomSource = source;
+    }
+
     // Random
     //-----------------------------------------------------------------------
 
@@ -55,8 +96,50 @@ public class RandomStringUtils {
      * @return 随机字符串
      */
     public static String randomAscii(int count) {
-        // 注意，这里传入的start和end参数分别是32和127，同样将letters和numbers置为false表示不只是字母和数字字符
-        return random(count, 32, 127, false, false);
+        // 相当于random(count, 32, 127, false, false)，使用预先计算好的字符表，不需要拒绝重试
+        return ASCII.generate(count);
+    }
+
+    /**
+     * <p>一次创建howMany个长度为count的随机字符串，字符从ASCII值介于32和127（不包含127）之间的字符集合中选择。</p>
+     * <p>与循环调用{@link #randomAscii(int)}相比，所有字符串共用一个临时字符缓冲区，适合一次性生成大量随机字符串的场景。</p>
+     *
+     * @param count   每个随机字符串的长度
+     * @param howMany 随机字符串的个数
+     * @return 随机字符串数组
+     * @throws IllegalArgumentException 如果count或howMany小于0
+     */
+    public static String[] randomAscii(int count, int howMany) {
+        return ASCII.generate(count, howMany);
+    }
+
+    /**
+     * <p>创建一个长度为count的随机ASCII字节数组，字符从ASCII值介于32和127（不包含127）之间的字符集合中选择，结果与{@link #randomAscii(int)}的结果按US-ASCII编码得到的字节相同。</p>
+     * <p>直接生成字节，省去char[]、String和getBytes()的中间对象，适合随后要写入网络协议的场景。</p>
+     *
+     * @param count 要创建的字节数组的长度
+     * @return 随机字节数组
+     * @throws IllegalArgumentException 如果count<0
+     */
+    public static byte[] randomAsciiBytes(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Requested random string length " + count + " is less than 0.");
+        }
+        byte[] bytes = new byte[count];
+        ASCII.generateInto(bytes, 0, count);
+        return bytes;
+    }
+
+    /**
+     * <p>将count个随机ASCII字符直接写入字节缓冲区dest的当前位置，字符从ASCII值介于32和127（不包含127）之间的字符集合中选择，写入后position增加count。堆缓冲区和直接缓冲区都可以使用。</p>
+     *
+     * @param dest  目标缓冲区，不能为null
+     * @param count 写入的字符个数
+     * @throws IllegalArgumentException         如果dest为null或者count<0
+     * @throws java.nio.BufferOverflowException 如果dest剩余的空间小于count
+     */
+    public static void randomAscii(ByteBuffer dest, int count) {
+        ASCII.generateInto(dest, count);
     }
 
     /**
@@ -66,8 +149,50 @@ public class RandomStringUtils {
      * @return 生成的随机随机字符串
      */
     public static String randomAlphabetic(int count) {
-        // 将letters置为true表示生成的随机字符串中只有字母字符；将numbers置为false表示随机字符串中不包含任何数字字符
-        return random(count, true, false);
+        // 相当于random(count, true, false)，但直接从52个字母中选择，不再抽取到非字母字符后重试
+        return ALPHABETIC.generate(count);
+    }
+
+    /**
+     * <p>一次创建howMany个长度为count的随机字符串，字符从字母字符集合中选择。</p>
+     * <p>与循环调用{@link #randomAlphabetic(int)}相比，所有字符串共用一个临时字符缓冲区，适合一次性生成大量随机字符串的场景。</p>
+     *
+     * @param count   每个随机字符串的长度
+     * @param howMany 随机字符串的个数
+     * @return 随机字符串数组
+     * @throws IllegalArgumentException 如果count或howMany小于0
+     */
+    public static String[] randomAlphabetic(int count, int howMany) {
+        return ALPHABETIC.generate(count, howMany);
+    }
+
+    /**
+     * <p>创建一个长度为count的随机ASCII字节数组，字符从字母字符集合中选择，结果与{@link #randomAlphabetic(int)}的结果按US-ASCII编码得到的字节相同。</p>
+     * <p>直接生成字节，省去char[]、String和getBytes()的中间对象，适合随后要写入网络协议的场景。</p>
+     *
+     * @param count 要创建的字节数组的长度
+     * @return 随机字节数组
+     * @throws IllegalArgumentException 如果count<0
+     */
+    public static byte[] randomAlphabeticBytes(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Requested random string length " + count + " is less than 0.");
+        }
+        byte[] bytes = new byte[count];
+        ALPHABETIC.generateInto(bytes, 0, count);
+        return bytes;
+    }
+
+    /**
+     * <p>将count个随机ASCII字符直接写入字节缓冲区dest的当前位置，字符从字母字符集合中选择，写入后position增加count。堆缓冲区和直接缓冲区都可以使用。</p>
+     *
+     * @param dest  目标缓冲区，不能为null
+     * @param count 写入的字符个数
+     * @throws IllegalArgumentException         如果dest为null或者count<0
+     * @throws java.nio.BufferOverflowException 如果dest剩余的空间小于count
+     */
+    public static void randomAlphabetic(ByteBuffer dest, int count) {
+        ALPHABETIC.generateInto(dest, count);
     }
 
     /**
@@ -77,8 +202,50 @@ public class RandomStringUtils {
      * @return 生成的随机字符串
      */
     public static String randomAlphanumeric(int count) {
-        // 将letters和numbers都置为true，表示生成的字符串中的字符只在数字和字母中选择
-        return random(count, true, true);
+        // 相当于random(count, true, true)，但直接从62个数字和字母中选择，不再抽取到其他字符后重试
+        return ALPHANUMERIC.generate(count);
+    }
+
+    /**
+     * <p>一次创建howMany个长度为count的随机字符串，字符从字母字符集合和数字字符集合中选择。</p>
+     * <p>与循环调用{@link #randomAlphanumeric(int)}相比，所有字符串共用一个临时字符缓冲区，适合一次性生成大量随机字符串的场景。</p>
+     *
+     * @param count   每个随机字符串的长度
+     * @param howMany 随机字符串的个数
+     * @return 随机字符串数组
+     * @throws IllegalArgumentException 如果count或howMany小于0
+     */
+    public static String[] randomAlphanumeric(int count, int howMany) {
+        return ALPHANUMERIC.generate(count, howMany);
+    }
+
+    /**
+     * <p>创建一个长度为count的随机ASCII字节数组，字符从字母字符集合和数字字符集合中选择，结果与{@link #randomAlphanumeric(int)}的结果按US-ASCII编码得到的字节相同。</p>
+     * <p>直接生成字节，省去char[]、String和getBytes()的中间对象，适合随后要写入网络协议的场景。</p>
+     *
+     * @param count 要创建的字节数组的长度
+     * @return 随机字节数组
+     * @throws IllegalArgumentException 如果count<0
+     */
+    public static byte[] randomAlphanumericBytes(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Requested random string length " + count + " is less than 0.");
+        }
+        byte[] bytes = new byte[count];
+        ALPHANUMERIC.generateInto(bytes, 0, count);
+        return bytes;
+    }
+
+    /**
+     * <p>将count个随机ASCII字符直接写入字节缓冲区dest的当前位置，字符从字母字符集合和数字字符集合中选择，写入后position增加count。堆缓冲区和直接缓冲区都可以使用。</p>
+     *
+     * @param dest  目标缓冲区，不能为null
+     * @param count 写入的字符个数
+     * @throws IllegalArgumentException         如果dest为null或者count<0
+     * @throws java.nio.BufferOverflowException 如果dest剩余的空间小于count
+     */
+    public static void randomAlphanumeric(ByteBuffer dest, int count) {
+        ALPHANUMERIC.generateInto(dest, count);
     }
 
     /**
@@ -88,8 +255,50 @@ public class RandomStringUtils {
      * @return 随机字符串
      */
     public static String randomNumeric(int count) {
-        // 将numbers置为true表示只生成数字的随机字符串
-        return random(count, false, true);
+        // 相当于random(count, false, true)，但直接从10个数字中选择，不再抽取到其他字符后重试
+        return NUMERIC.generate(count);
+    }
+
+    /**
+     * <p>一次创建howMany个长度为count的随机字符串，字符只从数字字符集合中选择。</p>
+     * <p>与循环调用{@link #randomNumeric(int)}相比，所有字符串共用一个临时字符缓冲区，适合一次性生成大量随机字符串的场景。</p>
+     *
+     * @param count   每个随机字符串的长度
+     * @param howMany 随机字符串的个数
+     * @return 随机字符串数组
+     * @throws IllegalArgumentException 如果count或howMany小于0
+     */
+    public static String[] randomNumeric(int count, int howMany) {
+        return NUMERIC.generate(count, howMany);
+    }
+
+    /**
+     * <p>创建一个长度为count的随机ASCII字节数组，字符只从数字字符集合中选择，结果与{@link #randomNumeric(int)}的结果按US-ASCII编码得到的字节相同。</p>
+     * <p>直接生成字节，省去char[]、String和getBytes()的中间对象，适合随后要写入网络协议的场景。</p>
+     *
+     * @param count 要创建的字节数组的长度
+     * @return 随机字节数组
+     * @throws IllegalArgumentException 如果count<0
+     */
+    public static byte[] randomNumericBytes(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Requested random string length " + count + " is less than 0.");
+        }
+        byte[] bytes = new byte[count];
+        NUMERIC.generateInto(bytes, 0, count);
+        return bytes;
+    }
+
+    /**
+     * <p>将count个随机ASCII字符直接写入字节缓冲区dest的当前位置，字符只从数字字符集合中选择，写入后position增加count。堆缓冲区和直接缓冲区都可以使用。</p>
+     *
+     * @param dest  目标缓冲区，不能为null
+     * @param count 写入的字符个数
+     * @throws IllegalArgumentException         如果dest为null或者count<0
+     * @throws java.nio.BufferOverflowException 如果dest剩余的空间小于count
+     */
+    public static void randomNumeric(ByteBuffer dest, int count) {
+        NUMERIC.generateInto(dest, count);
     }
 
     /**
@@ -116,12 +325,12 @@ public class RandomStringUtils {
      * @return 随机字符串
      */
     public static String random(int count, int start, int end, boolean letters, boolean numbers) {
-        return random(count, start, end, letters, numbers, null, RANDOM);
+        return randomFromSource(count, start, end, letters, numbers, null, defaultRandomSource);
     }
 
     /**
-     * <p>使用提供的随机源根据各种选项创建随机字符串，使用默认的随机源（即常量RANDOM）</p>
-     * <p>该方法与{@link #random(int, int, int, boolean, boolean, char[], Random)}具有完全相同的语义，但它使用内部静态{@link Random}实例对象，而不是使用外部提供的随机源。</p>
+     * <p>使用提供的随机源根据各种选项创建随机字符串，使用默认的随机源（即{@link #getDefaultRandomSource()}）</p>
+     * <p>该方法与{@link #random(int, int, int, boolean, boolean, char[], Random)}具有完全相同的语义，但它使用默认的随机源，而不是使用外部提供的随机源。</p>
      *
      * @param count   要创建的随机字符串的长度
      * @param start   字符数组中开始的位置
@@ -133,8 +342,8 @@ public class RandomStringUtils {
      * @throws ArrayIndexOutOfBoundsException 如果set数组中没有(end - start) + 1字符
      */
     public static String random(int count, int start, int end, boolean letters, boolean numbers, char[] chars) {
-        // 只有random参数是使用内部静态常量RANDOM
-        return random(count, start, end, letters, numbers, chars, RANDOM);
+        // 只有random参数是使用默认的随机源
+        return randomFromSource(count, start, end, letters, numbers, chars, defaultRandomSource);
     }
 
     /**
@@ -158,6 +367,27 @@ public class RandomStringUtils {
      */
     public static String random(int count, int start, int end, boolean letters, boolean numbers,
                                 char[] chars, Random random) {
+        return randomFromSource(count, start, end, letters, numbers, chars, RandomSource.of(random));
+    }
+
+    /**
+     * <p>使用提供的{@link RandomSource}根据各种选项创建随机字符串，语义与{@link #random(int, int, int, boolean, boolean, char[], Random)}完全相同。</p>
+     * <p>该方法没有与random()同名，否则已有的<code>random(count, start, end, letters, numbers, chars, null)</code>调用会因为无法确定重载方法而编译失败。</p>
+     * <p>多线程环境下推荐传入{@link RandomSource#threadLocal()}或者{@link RandomSource#splittable()}，它们不会在共享的种子上产生竞争。</p>
+     *
+     * @param count   要创建的随机字符串的长度
+     * @param start   字符数组中开始的位置
+     * @param end     在字符数组中结束之前的位置
+     * @param letters 如果为true，则生成的字符串将只包含字母字符
+     * @param numbers 如果为true，则生成的字符串将只包含数字字符，如果letters和numbers都为true表示只包含字母和数字字符
+     * @param chars   从中选择随机字符的字符数组，如果为null，则它将使用所有字符的集合
+     * @param random  随机性的来源
+     * @return 生成的随机字符串
+     * @throws ArrayIndexOutOfBoundsException 如果set数组中没有(end - start) + 1字符
+     * @throws IllegalArgumentException       如果count<0
+     */
+    public static String randomFromSource(int count, int start, int end, boolean letters, boolean numbers,
+                                          char[] chars, RandomSource random) {
         // 参数校验，count可以为0则返回空字符串；count可以大于0表示生成指定长度的随机字符串；count不能小于0，因为你不可能生成一个负长度的字符串所以要抛出异常
         if (count == 0) {
             return "";
@@ -238,7 +468,7 @@ public class RandomStringUtils {
      */
     public static String random(int count, String chars) {
         if (chars == null) {
-            return random(count, 0, 0, false, false, null, RANDOM);
+            return randomFromSource(count, 0, 0, false, false, null, defaultRandomSource);
         }
         // 即将chars字符串转换成字符数组，然后调用下面的重载方法
         return random(count, chars.toCharArray());
@@ -255,10 +485,10 @@ public class RandomStringUtils {
     public static String random(int count, char[] chars) {
         // 参数校验，同时注意end参数和chars参数的不同取值
         if (chars == null) {
-            return random(count, 0, 0, false, false, null, RANDOM);
+            return randomFromSource(count, 0, 0, false, false, null, defaultRandomSource);
         }
         // 将start和end设置为[0, chars.length)表示随机字符串中的字符将只从chars字符数组中选择字符
-        return random(count, 0, chars.length, false, false, chars, RANDOM);
+        return randomFromSource(count, 0, chars.length, false, false, chars, defaultRandomSource);
     }
 
 }
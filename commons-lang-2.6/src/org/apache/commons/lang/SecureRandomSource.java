@@ -0,0 +1,244 @@
+package org.apache.commons.lang;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>密码学安全的随机数来源，用于生成会话令牌、密码重置链接等不可预测的随机字符串。</p>
+ * <p>把一个共享的{@link SecureRandom}传给{@link RandomStringUtils#random(int, int, int, boolean, boolean, char[], java.util.Random)}时，
+ * 所有线程都在同一个SecureRandom的锁上排队，并且每个字符都要调用一次nextInt()。该类做了三点改进：</p>
+ * <ul>
+ *     <li>每个线程第一次使用时创建自己的SecureRandom实例（优先使用DRBG算法），线程之间没有任何共享状态和锁竞争</li>
+ *     <li>每次调用nextBytes()批量填满一个字节缓冲区，之后的nextLong()、nextInt()只从缓冲区中取字节，直到用完再批量填充</li>
+ *     <li>每个线程的实例在输出了指定的字节数之后重新播种（reseed），限制单个种子保护的输出量</li>
+ * </ul>
+ * <pre>
+ *     RandomStringGenerator tokens = RandomStringGenerator.forRange(0, 0, true, true).withRandomSource(RandomSource.secure());
+ *     String token = tokens.generate(32);
+ * </pre>
+ * <p>该类还统计了生成的字节数、批量填充次数和重新播种次数，调用者可以据此计算吞吐量。统计使用{@link LongAdder}并且只在批量填充时更新，不会成为新的竞争点。</p>
+ * <p>需要Java 9及以上版本：DRBG算法和{@link SecureRandom#reseed()}都是从Java 9开始提供的。</p>
+ * <p>线程安全</p>
+ *
+ * @author lcl100
+ * @create 2026-10-18 14:30
+ */
+public final class SecureRandomSource extends RandomSource {
+
+    /**
+     * 常量，默认的字节缓冲区大小
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 512;
+
+    /**
+     * 常量，默认的重新播种间隔，即每个线程输出1MB之后重新播种
+     */
+    public static final long DEFAULT_RESEED_INTERVAL = 1L << 20;
+
+    /**
+     * 每个线程的字节缓冲区大小
+     */
+    private final int bufferSize;
+    /**
+     * 每个线程输出多少字节之后重新播种
+     */
+    private final long reseedInterval;
+
+    /**
+     * 生成的字节总数
+     */
+    private final LongAdder bytesGenerated = new LongAdder();
+    /**
+     * 批量填充的总次数
+     */
+    private final LongAdder refillCount = new LongAdder();
+    /**
+     * 重新播种的总次数
+     */
+    private final LongAdder reseedCount = new LongAdder();
+
+    /**
+     * 每个线程自己的生成器状态
+     */
+    private final ThreadLocal state = new ThreadLocal() {
+        protected Object initialValue() {
+            return new State(newSecureRandom(), bufferSize);
+        }
+    };
+
+    /**
+     * 构造方法，使用默认的缓冲区大小和重新播种间隔。
+     */
+    public SecureRandomSource() {
+        this(DEFAULT_BUFFER_SIZE, DEFAULT_RESEED_INTERVAL);
+    }
+
+    /**
+     * 构造方法，使用指定的缓冲区大小和重新播种间隔。
+     *
+     * @param bufferSize     每个线程的字节缓冲区大小，必须是8的倍数并且大于0
+     * @param reseedInterval 每个线程输出多少字节之后重新播种，必须大于0
+     * @throws IllegalArgumentException 如果参数不合法
+     */
+    public SecureRandomSource(int bufferSize, long reseedInterval) {
+        if (bufferSize <= 0 || bufferSize % 8 != 0) {
+            throw new IllegalArgumentException("Buffer size must be a positive multiple of 8: " + bufferSize);
+        }
+        if (reseedInterval <= 0) {
+            throw new IllegalArgumentException("Reseed interval must be positive: " + reseedInterval);
+        }
+        this.bufferSize = bufferSize;
+        this.reseedInterval = reseedInterval;
+    }
+
+    /**
+     * 返回一个[0, bound)范围内均匀分布的随机整数，算法与{@link java.util.Random#nextInt(int)}相同，只是随机位来自缓冲区。
+     *
+     * @param bound 上界（不包含），必须大于0
+     * @return 随机整数
+     * @throws IllegalArgumentException 如果bound小于等于0
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        State s = (State) state.get();
+        int r = (int) (nextLong(s) >>> 33);
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            // bound是2的幂，直接取高位
+            return (int) ((bound * (long) r) >> 31);
+        }
+        // 31位随机数落在最后一个不完整的区间时拒绝，保证均匀分布
+        for (int u = r; u - (r = u % bound) + m < 0; u = (int) (nextLong(s) >>> 33)) {
+        }
+        return r;
+    }
+
+    /**
+     * 返回一个64位均匀分布的随机整数，取自当前线程的字节缓冲区。
+     *
+     * @return 随机整数
+     */
+    public long nextLong() {
+        return nextLong((State) state.get());
+    }
+
+    /**
+     * 获取所有线程生成的字节总数。
+     *
+     * @return 字节总数
+     */
+    public long getBytesGenerated() {
+        return bytesGenerated.sum();
+    }
+
+    /**
+     * 获取所有线程批量填充缓冲区的总次数。
+     *
+     * @return 填充次数
+     */
+    public long getRefillCount() {
+        return refillCount.sum();
+    }
+
+    /**
+     * 获取所有线程重新播种的总次数。
+     *
+     * @return 重新播种次数
+     */
+    public long getReseedCount() {
+        return reseedCount.sum();
+    }
+
+    /**
+     * 从线程状态的缓冲区中取8个字节组成一个long，缓冲区用完时批量填充。
+     *
+     * @param s 当前线程的状态
+     * @return 随机整数
+     */
+    private long nextLong(State s) {
+        if (s.position == s.buffer.length) {
+            refill(s);
+        }
+        byte[] b = s.buffer;
+        int p = s.position;
+        s.position = p + 8;
+        return ((long) b[p] << 56)
+                | ((long) (b[p + 1] & 0xFF) << 48)
+                | ((long) (b[p + 2] & 0xFF) << 40)
+                | ((long) (b[p + 3] & 0xFF) << 32)
+                | ((long) (b[p + 4] & 0xFF) << 24)
+                | ((b[p + 5] & 0xFF) << 16)
+                | ((b[p + 6] & 0xFF) << 8)
+                | (b[p + 7] & 0xFF);
+    }
+
+    /**
+     * 批量填充缓冲区，如果距离上次播种输出的字节数达到了间隔，则先重新播种。
+     *
+     * @param s 当前线程的状态
+     */
+    private void refill(State s) {
+        if (s.sinceReseed >= reseedInterval) {
+            reseed(s.random);
+            s.sinceReseed = 0;
+            reseedCount.increment();
+        }
+        s.random.nextBytes(s.buffer);
+        s.position = 0;
+        s.sinceReseed += s.buffer.length;
+        bytesGenerated.add(s.buffer.length);
+        refillCount.increment();
+    }
+
+    /**
+     * 创建一个新的SecureRandom实例，优先使用DRBG算法，不支持时使用平台默认的算法。
+     *
+     * @return SecureRandom实例
+     */
+    private static SecureRandom newSecureRandom() {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            return new SecureRandom();
+        }
+    }
+
+    /**
+     * 从熵源重新播种。DRBG支持{@link SecureRandom#reseed()}，其他算法则用generateSeed()得到的种子补充。
+     *
+     * @param random 要重新播种的实例
+     */
+    private static void reseed(SecureRandom random) {
+        try {
+            random.reseed();
+        } catch (UnsupportedOperationException e) {
+            random.setSeed(random.generateSeed(32));
+        }
+    }
+
+    /**
+     * 单个线程的生成器状态。
+     */
+    private static final class State {
+        private final SecureRandom random;
+        private final byte[] buffer;
+        /**
+         * 缓冲区中下一个未使用字节的位置，等于缓冲区长度表示已经用完
+         */
+        private int position;
+        /**
+         * 上次播种之后输出的字节数
+         */
+        private long sinceReseed;
+
+        State(SecureRandom random, int bufferSize) {
+            this.random = random;
+            this.buffer = new byte[bufferSize];
+            this.position = bufferSize;
+        }
+    }
+
+}
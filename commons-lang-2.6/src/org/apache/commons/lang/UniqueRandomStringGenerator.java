@@ -0,0 +1,133 @@
+package org.apache.commons.lang;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>保证在进程内唯一的随机字符串生成器，适合用来生成数据库主键等ID。</p>
+ * <p>单纯使用{@link RandomStringUtils#randomAlphanumeric(int)}生成ID时，只能靠长度降低冲突的概率，插入前还要到数据库中检查是否重复。
+ * 该类生成的字符串由两部分组成：</p>
+ * <ul>
+ *     <li>前11个字符：一个64位的序号，高42位是毫秒时间戳，低22位是同一毫秒内的计数器，编码成定长的62进制数字</li>
+ *     <li>之后的字符：与{@link RandomStringUtils#randomAlphanumeric(int)}相同的字母和数字组成的随机字符</li>
+ * </ul>
+ * <pre>
+ *     UniqueRandomStringGenerator ids = new UniqueRandomStringGenerator(10);
+ *     String id = ids.next(); // 例如 "8xIKsVAqSauVWNnvkz7ly"，长度为21
+ * </pre>
+ * <p>序号通过{@link AtomicLong}的CAS操作递增，不需要加锁，并且严格单调递增：即使系统时钟回拨或者同一毫秒内生成了超过2^22个ID，
+ * 序号也只会继续加1。序号由所有生成器实例共享，所以同一个进程（准确地说是加载了该类的同一个类加载器）中生成的ID一定不会重复，
+ * 即使随机部分的长度为0，或者在不同的地方各自创建了生成器。随机部分则用来降低不同进程之间的冲突概率。</p>
+ * <p>62进制数字使用"0-9A-Za-z"，与它们的ASCII码顺序一致，并且前缀是定长的，所以按字符串比较ID的先后顺序就是按生成时间的先后顺序，
+ * 插入B树索引时总是追加在末尾附近。42位的毫秒时间戳可以使用到2109年。</p>
+ * <p>线程安全</p>
+ *
+ * @author lcl100
+ * @create 2026-10-18 16:10
+ */
+public class UniqueRandomStringGenerator {
+
+    /**
+     * 常量，序号部分的字符个数，62的11次方大于2的64次方
+     */
+    public static final int PREFIX_LENGTH = 11;
+
+    /**
+     * 常量，计数器占用的位数
+     */
+    private static final int COUNTER_BITS = 22;
+
+    /**
+     * 常量，62进制数字，按ASCII码从小到大排列
+     */
+    private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    /**
+     * 随机部分使用的字母和数字生成器
+     */
+    private static final RandomStringGenerator ALPHANUMERIC = RandomStringGenerator.forRange(0, 0, true, true);
+
+    /**
+     * 上一次使用的序号，按无符号数比较，由所有实例共享
+     */
+    private static final AtomicLong LAST_SEQUENCE = new AtomicLong();
+
+    /**
+     * 随机部分的字符个数
+     */
+    private final int randomLength;
+    /**
+     * 随机部分的生成器
+     */
+    private final RandomStringGenerator generator;
+
+    /**
+     * 构造方法，随机部分使用{@link RandomStringUtils#getDefaultRandomSource()}。
+     *
+     * @param randomLength 随机部分的字符个数
+     * @throws IllegalArgumentException 如果randomLength小于0
+     */
+    public UniqueRandomStringGenerator(int randomLength) {
+        this(randomLength, null);
+    }
+
+    /**
+     * 构造方法，随机部分使用指定的随机数来源，例如需要不可预测的ID时可以使用{@link RandomSource#secure()}。
+     *
+     * @param randomLength 随机部分的字符个数
+     * @param random       随机数来源，null表示使用{@link RandomStringUtils#getDefaultRandomSource()}
+     * @throws IllegalArgumentException 如果randomLength小于0
+     */
+    public UniqueRandomStringGenerator(int randomLength, RandomSource random) {
+        if (randomLength < 0) {
+            throw new IllegalArgumentException("Random length must not be negative: " + randomLength);
+        }
+        this.randomLength = randomLength;
+        this.generator = ALPHANUMERIC.withRandomSource(random);
+    }
+
+    /**
+     * 获取生成的字符串的长度，即{@link #PREFIX_LENGTH}加上随机部分的字符个数。
+     *
+     * @return 字符串的长度
+     */
+    public int getLength() {
+        return PREFIX_LENGTH + randomLength;
+    }
+
+    /**
+     * 生成下一个唯一的随机字符串，按字符串比较时总是大于进程中（任意生成器）之前生成的所有字符串。
+     *
+     * @return 唯一的随机字符串
+     */
+    public String next() {
+        char[] buffer = new char[PREFIX_LENGTH + randomLength];
+        long sequence = nextSequence();
+        // 从最低位开始，按无符号数逐位转换成62进制，高位补0
+        for (int i = PREFIX_LENGTH - 1; i >= 0; i--) {
+            buffer[i] = DIGITS[(int) Long.remainderUnsigned(sequence, DIGITS.length)];
+            sequence = Long.divideUnsigned(sequence, DIGITS.length);
+        }
+        generator.generateInto(buffer, PREFIX_LENGTH, randomLength);
+        return new String(buffer);
+    }
+
+    /**
+     * 获取下一个序号：取当前毫秒数左移22位和上一个序号加1中较大的那个，通过CAS更新，失败则重试。
+     *
+     * @return 序号
+     */
+    private long nextSequence() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        while (true) {
+            long previous = LAST_SEQUENCE.get();
+            long next = previous + 1;
+            if (Long.compareUnsigned(now, next) > 0) {
+                next = now;
+            }
+            if (LAST_SEQUENCE.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+}
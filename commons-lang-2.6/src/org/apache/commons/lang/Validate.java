@@ -2,8 +2,11 @@ package org.apache.commons.lang;
 
 
 import java.util.Collection;
+import java.util.IllegalFormatException;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 
 /**
  * @author lcl100
@@ -15,10 +18,26 @@ import java.util.Map;
  *     Validate.isTrue(i>0, "参数i大于0");
  *     Validate.notNull(name, "name参数必须不能为null");
  * </pre>
+ * <p>如果提示消息需要拼接参数，不要写成<code>Validate.isTrue(i > 0, "参数错误：" + id)</code>，这样即使校验通过也会每次都拼接字符串。
+ * 可以使用以Format结尾的消息模板方法，或者传入一个{@link MessageSupplier}的以Lazy结尾的方法，它们都只在校验失败时才生成消息。
+ * 它们没有与isTrue、notNull同名，因为同名的<code>isTrue(boolean, String, Object)</code>是直接把参数拼接在消息后面的，而不是格式化：</p>
+ * <pre>
+ *     Validate.isTrueFormat(min <= max, "min %s must not be greater than max %s", minObj, maxObj);
+ *     Validate.notNullLazy(user, new Validate.MessageSupplier() {
+ *         public String getMessage() {
+ *             return "user " + id + " not found";
+ *         }
+ *     });
+ * </pre>
  */
 public class Validate {
     // Validate类目前没有对commons.lang中的其他类进行依赖
 
+    /**
+     * 常量，allElementsOfType每次调用时缓存的已经通过类型检查的具体类的个数
+     */
+    private static final int CLASS_CACHE_SIZE = 4;
+
     /**
      * 构造函数，但通常不应该实例化此类，因为只需要使用该类中的静态方法即可，可以直接通过类名调用静态方法
      */
@@ -91,6 +110,42 @@ public class Validate {
         }
     }
 
+    /**
+     * <p>验证参数条件是否为true，如果不为true则抛出带有指定消息的异常。例如：</p>
+     * <pre>
+     *     Validate.isTrue(index >= 0, "这个index不能为负数：", index);
+     * </pre>
+     * <p>同{@link #isTrue(boolean, String, long)}一样，唯一不同的是第三个参数是int值，通常用于校验下标、长度等整数的有效性。基本类型的值直接传递，校验通过时不会装箱，也不会创建任何对象。</p>
+     *
+     * @param expression 待校验的布尔表达式，表达式的值必须是一个布尔值
+     * @param message    当出现错误时，提示的错误消息
+     * @param value      错误的值，即表达式无效时附加到消息的值
+     * @throws IllegalArgumentException 如果表达式为false
+     */
+    public static void isTrue(boolean expression, String message, int value) {
+        if (expression == false) {
+            throw new IllegalArgumentException(message + value);
+        }
+    }
+
+    /**
+     * <p>验证参数条件是否为true，如果不为true则抛出带有指定消息的异常。例如：</p>
+     * <pre>
+     *     Validate.isTrue(enabled || force, "未启用时必须强制执行，force：", force);
+     * </pre>
+     * <p>同{@link #isTrue(boolean, String, long)}一样，唯一不同的是第三个参数是boolean值。基本类型的值直接传递，校验通过时不会装箱，也不会创建任何对象。</p>
+     *
+     * @param expression 待校验的布尔表达式，表达式的值必须是一个布尔值
+     * @param message    当出现错误时，提示的错误消息
+     * @param value      错误的值，即表达式无效时附加到消息的值
+     * @throws IllegalArgumentException 如果表达式为false
+     */
+    public static void isTrue(boolean expression, String message, boolean value) {
+        if (expression == false) {
+            throw new IllegalArgumentException(message + value);
+        }
+    }
+
     /**
      * <p>验证参数条件是否为true，如果不为true则抛出带有指定消息的异常。可以用于验证原始数字或使用您自己的自定义验证表达式。例如：</p>
      * <pre>
@@ -127,6 +182,213 @@ public class Validate {
         }
     }
 
+    /**
+     * <p>验证参数条件是否为true，如果不为true则抛出异常，异常消息由消息模板和两个参数按{@link String#format(String, Object[])}生成。例如：</p>
+     * <pre>
+     *     Validate.isTrueFormat(min <= max, "min %s must not be greater than max %s", minObj, maxObj);
+     * </pre>
+     * <p>只有在校验失败时才会格式化消息，校验通过时不会拼接字符串也不会创建参数数组。
+     * 注意{@link #isTrue(boolean, String, Object)}是把参数直接拼接在消息后面，而不是格式化。</p>
+     *
+     * @param expression 待校验的布尔表达式
+     * @param message    消息模板，使用%s等格式说明符引用参数
+     * @param value1     第一个参数
+     * @param value2     第二个参数
+     * @throws IllegalArgumentException 如果表达式为false
+     */
+    public static void isTrueFormat(boolean expression, String message, Object value1, Object value2) {
+        if (expression == false) {
+            throw new IllegalArgumentException(format(message, new Object[]{value1, value2}));
+        }
+    }
+
+    /**
+     * <p>验证参数条件是否为true，如果不为true则抛出异常，异常消息由消息模板和三个参数按{@link String#format(String, Object[])}生成。</p>
+     * <p>只有在校验失败时才会格式化消息。</p>
+     *
+     * @param expression 待校验的布尔表达式
+     * @param message    消息模板，使用%s等格式说明符引用参数
+     * @param value1     第一个参数
+     * @param value2     第二个参数
+     * @param value3     第三个参数
+     * @throws IllegalArgumentException 如果表达式为false
+     */
+    public static void isTrueFormat(boolean expression, String message, Object value1, Object value2, Object value3) {
+        if (expression == false) {
+            throw new IllegalArgumentException(format(message, new Object[]{value1, value2, value3}));
+        }
+    }
+
+    /**
+     * <p>验证参数条件是否为true，如果不为true则抛出异常，异常消息由消息模板和两个参数按{@link String#format(String, Object[])}生成。例如：</p>
+     * <pre>
+     *     Validate.isTrueFormatPrimitive(start <= end, "start %s must not be greater than end %s", start, end);
+     * </pre>
+     * <p>与{@link #isTrueFormat(boolean, String, Object, Object)}不同，基本类型的值直接传递，校验通过时不会装箱，只有在失败时才会装箱并格式化消息。
+     * 该方法没有与isTrueFormat同名，否则一个基本类型参数和一个包装类型参数的调用会因为无法确定重载方法而编译失败。
+     * int、short、byte、char类型的值会自动拓宽为long，float类型的值会自动拓宽为double，同样不会装箱。
+     * 与{@link #isTrue(boolean, String, long)}一样，char类型的值在消息中显示为它的数字编码。</p>
+     *
+     * @param expression 待校验的布尔表达式
+     * @param message    消息模板，使用%s等格式说明符引用参数
+     * @param value1     第一个参数
+     * @param value2     第二个参数
+     * @throws IllegalArgumentException 如果表达式为false
+     */
+    public static void isTrueFormatPrimitive(boolean expression, String message, long value1, long value2) {
+        if (expression == false) {
+            throw new IllegalArgumentException(format(message, new Object[]{Long.valueOf(value1), Long.valueOf(value2)}));
+        }
+    }
+
+    /**
+     * <p>验证参数条件是否为true，如果不为true则抛出异常，异常消息由消息模板和两个参数按{@link String#format(String, Object[])}生成。</p>
+     * <p>同{@link #isTrueFormatPrimitive(boolean, String, long, long)}，参数类型为long和double。</p>
+     *
+     * @param expression 待校验的布尔表达式
+     * @param message    消息模板，使用%s等格式说明符引用参数
+     * @param value1     第一个参数
+     * @param value2     第二个参数
+     * @throws IllegalArgumentException 如果表达式为false
+     */
+    public static void isTrueFormatPrimitive(boolean expression, String message, long value1, double value2) {
+        if (expression == false) {
+            throw new IllegalArgumentException(format(message, new Object[]{Long.valueOf(value1), Double.valueOf(value2)}));
+        }
+    }
+
+    /**
+     * <p>验证参数条件是否为true，如果不为true则抛出异常，异常消息由消息模板和两个参数按{@link String#format(String, Object[])}生成。</p>
+     * <p>同{@link #isTrueFormatPrimitive(boolean, String, long, long)}，参数类型为long和boolean。</p>
+     *
+     * @param expression 待校验的布尔表达式
+     * @param message    消息模板，使用%s等格式说明符引用参数
+     * @param value1     第一个参数
+     * @param value2     第二个参数
+     * @throws IllegalArgumentException 如果表达式为false
+     */
+    public static void isTrueFormatPrimitive(boolean expression, String message, long value1, boolean value2) {
+        if (expression == false) {
+            throw new IllegalArgumentException(format(message, new Object[]{Long.valueOf(value1), Boolean.valueOf(value2)}));
+        }
+    }
+
+    /**
+     * <p>验证参数条件是否为true，如果不为true则抛出异常，异常消息由消息模板和两个参数按{@link String#format(String, Object[])}生成。</p>
+     * <p>同{@link #isTrueFormatPrimitive(boolean, String, long, long)}，参数类型为double和long。</p>
+     *
+     * @param expression 待校验的布尔表达式
+     * @param message    消息模板，使用%s等格式说明符引用参数
+     * @param value1     第一个参数
+     * @param value2     第二个参数
+     * @throws IllegalArgumentException 如果表达式为false
+     */
+    public static void isTrueFormatPrimitive(boolean expression, String message, double value1, long value2) {
+        if (expression == false) {
+            throw new IllegalArgumentException(format(message, new Object[]{Double.valueOf(value1), Long.valueOf(value2)}));
+        }
+    }
+
+    /**
+     * <p>验证参数条件是否为true，如果不为true则抛出异常，异常消息由消息模板和两个参数按{@link String#format(String, Object[])}生成。</p>
+     * <p>同{@link #isTrueFormatPrimitive(boolean, String, long, long)}，参数类型为double和double。</p>
+     *
+     * @param expression 待校验的布尔表达式
+     * @param message    消息模板，使用%s等格式说明符引用参数
+     * @param value1     第一个参数
+     * @param value2     第二个参数
+     * @throws IllegalArgumentException 如果表达式为false
+     */
+    public static void isTrueFormatPrimitive(boolean expression, String message, double value1, double value2) {
+        if (expression == false) {
+            throw new IllegalArgumentException(format(message, new Object[]{Double.valueOf(value1), Double.valueOf(value2)}));
+        }
+    }
+
+    /**
+     * <p>验证参数条件是否为true，如果不为true则抛出异常，异常消息由消息模板和两个参数按{@link String#format(String, Object[])}生成。</p>
+     * <p>同{@link #isTrueFormatPrimitive(boolean, String, long, long)}，参数类型为double和boolean。</p>
+     *
+     * @param expression 待校验的布尔表达式
+     * @param message    消息模板，使用%s等格式说明符引用参数
+     * @param value1     第一个参数
+     * @param value2     第二个参数
+     * @throws IllegalArgumentException 如果表达式为false
+     */
+    public static void isTrueFormatPrimitive(boolean expression, String message, double value1, boolean value2) {
+        if (expression == false) {
+            throw new IllegalArgumentException(format(message, new Object[]{Double.valueOf(value1), Boolean.valueOf(value2)}));
+        }
+    }
+
+    /**
+     * <p>验证参数条件是否为true，如果不为true则抛出异常，异常消息由消息模板和两个参数按{@link String#format(String, Object[])}生成。</p>
+     * <p>同{@link #isTrueFormatPrimitive(boolean, String, long, long)}，参数类型为boolean和long。</p>
+     *
+     * @param expression 待校验的布尔表达式
+     * @param message    消息模板，使用%s等格式说明符引用参数
+     * @param value1     第一个参数
+     * @param value2     第二个参数
+     * @throws IllegalArgumentException 如果表达式为false
+     */
+    public static void isTrueFormatPrimitive(boolean expression, String message, boolean value1, long value2) {
+        if (expression == false) {
+            throw new IllegalArgumentException(format(message, new Object[]{Boolean.valueOf(value1), Long.valueOf(value2)}));
+        }
+    }
+
+    /**
+     * <p>验证参数条件是否为true，如果不为true则抛出异常，异常消息由消息模板和两个参数按{@link String#format(String, Object[])}生成。</p>
+     * <p>同{@link #isTrueFormatPrimitive(boolean, String, long, long)}，参数类型为boolean和double。</p>
+     *
+     * @param expression 待校验的布尔表达式
+     * @param message    消息模板，使用%s等格式说明符引用参数
+     * @param value1     第一个参数
+     * @param value2     第二个参数
+     * @throws IllegalArgumentException 如果表达式为false
+     */
+    public static void isTrueFormatPrimitive(boolean expression, String message, boolean value1, double value2) {
+        if (expression == false) {
+            throw new IllegalArgumentException(format(message, new Object[]{Boolean.valueOf(value1), Double.valueOf(value2)}));
+        }
+    }
+
+    /**
+     * <p>验证参数条件是否为true，如果不为true则抛出异常，异常消息由消息模板和两个参数按{@link String#format(String, Object[])}生成。</p>
+     * <p>同{@link #isTrueFormatPrimitive(boolean, String, long, long)}，参数类型为boolean和boolean。</p>
+     *
+     * @param expression 待校验的布尔表达式
+     * @param message    消息模板，使用%s等格式说明符引用参数
+     * @param value1     第一个参数
+     * @param value2     第二个参数
+     * @throws IllegalArgumentException 如果表达式为false
+     */
+    public static void isTrueFormatPrimitive(boolean expression, String message, boolean value1, boolean value2) {
+        if (expression == false) {
+            throw new IllegalArgumentException(format(message, new Object[]{Boolean.valueOf(value1), Boolean.valueOf(value2)}));
+        }
+    }
+
+    /**
+     * <p>验证参数条件是否为true，如果不为true则抛出异常，异常消息由messageSupplier在校验失败时生成。例如：</p>
+     * <pre>
+     *     Validate.isTrueLazy(result.isOk(), new Validate.MessageSupplier() {
+     *         public String getMessage() {
+     *             return "result " + result.getId() + " is not ok: " + result.getErrors();
+     *         }
+     *     });
+     * </pre>
+     *
+     * @param expression      待校验的布尔表达式
+     * @param messageSupplier 生成异常消息的回调，不能为null
+     * @throws IllegalArgumentException 如果表达式为false
+     */
+    public static void isTrueLazy(boolean expression, MessageSupplier messageSupplier) {
+        if (expression == false) {
+            throw new IllegalArgumentException(messageSupplier.getMessage());
+        }
+    }
+
     // notNull方法，判断指定对象是否不为null
     //---------------------------------------------------------------------------------
 
@@ -162,6 +424,51 @@ public class Validate {
         }
     }
 
+    /**
+     * <p>验证指定的参数不为null，否则抛出异常，异常消息由消息模板和参数按{@link String#format(String, Object[])}生成，只有在校验失败时才会格式化。</p>
+     * <pre>
+     *     Validate.notNullFormat(user, "user %s not found", id);
+     * </pre>
+     *
+     * @param object  待校验的对象
+     * @param message 消息模板
+     * @param value   参数
+     * @throws IllegalArgumentException 如果对象为null
+     */
+    public static void notNullFormat(Object object, String message, Object value) {
+        if (object == null) {
+            throw new IllegalArgumentException(format(message, new Object[]{value}));
+        }
+    }
+
+    /**
+     * <p>验证指定的参数不为null，否则抛出异常，异常消息由消息模板和两个参数按{@link String#format(String, Object[])}生成，只有在校验失败时才会格式化。</p>
+     *
+     * @param object  待校验的对象
+     * @param message 消息模板
+     * @param value1  第一个参数
+     * @param value2  第二个参数
+     * @throws IllegalArgumentException 如果对象为null
+     */
+    public static void notNullFormat(Object object, String message, Object value1, Object value2) {
+        if (object == null) {
+            throw new IllegalArgumentException(format(message, new Object[]{value1, value2}));
+        }
+    }
+
+    /**
+     * <p>验证指定的参数不为null，否则抛出异常，异常消息由messageSupplier在校验失败时生成。</p>
+     *
+     * @param object          待校验的对象
+     * @param messageSupplier 生成异常消息的回调，不能为null
+     * @throws IllegalArgumentException 如果对象为null
+     */
+    public static void notNullLazy(Object object, MessageSupplier messageSupplier) {
+        if (object == null) {
+            throw new IllegalArgumentException(messageSupplier.getMessage());
+        }
+    }
+
     // notEmpty方法，验证数组不为空
     //---------------------------------------------------------------------------------
 
@@ -196,6 +503,19 @@ public class Validate {
         notEmpty(array, "The validated array is empty");
     }
 
+    /**
+     * <p>验证指定的参数数组不为null，也不是长度为零，否则抛出异常，异常消息由messageSupplier在校验失败时生成。</p>
+     *
+     * @param array           待检查验证的数组
+     * @param messageSupplier 生成异常消息的回调，不能为null
+     * @throws IllegalArgumentException 如果数组为空
+     */
+    public static void notEmptyLazy(Object[] array, MessageSupplier messageSupplier) {
+        if (array == null || array.length == 0) {
+            throw new IllegalArgumentException(messageSupplier.getMessage());
+        }
+    }
+
     // notEmpty方法，验证集合不为空
     //---------------------------------------------------------------------------------
 
@@ -232,6 +552,19 @@ public class Validate {
         notEmpty(collection, "The validated collection is empty");
     }
 
+    /**
+     * <p>验证指定的Collection集合既不能为null，又不能为空集合，否则抛出异常，异常消息由messageSupplier在校验失败时生成。</p>
+     *
+     * @param collection      待校验的Collection集合
+     * @param messageSupplier 生成异常消息的回调，不能为null
+     * @throws IllegalArgumentException 如果集合为空
+     */
+    public static void notEmptyLazy(Collection collection, MessageSupplier messageSupplier) {
+        if (collection == null || collection.size() == 0) {
+            throw new IllegalArgumentException(messageSupplier.getMessage());
+        }
+    }
+
     // notEmpty方法，校验Map集合不为空
     //---------------------------------------------------------------------------------
 
@@ -265,6 +598,19 @@ public class Validate {
         notEmpty(map, "The validated map is empty");
     }
 
+    /**
+     * <p>验证指定的Map集合既不能为null，又不能元素个数为零个，否则抛出异常，异常消息由messageSupplier在校验失败时生成。</p>
+     *
+     * @param map             待校验的Map集合
+     * @param messageSupplier 生成异常消息的回调，不能为null
+     * @throws IllegalArgumentException 如果Map集合为空
+     */
+    public static void notEmptyLazy(Map map, MessageSupplier messageSupplier) {
+        if (map == null || map.size() == 0) {
+            throw new IllegalArgumentException(messageSupplier.getMessage());
+        }
+    }
+
     // notEmpty方法，验证字符串不能为空
     //---------------------------------------------------------------------------------
 
@@ -299,6 +645,19 @@ public class Validate {
         notEmpty(string, "The validated string is empty");
     }
 
+    /**
+     * <p>验证指定的参数字符串既不能为null，也不能长度为零，否则抛出异常，异常消息由messageSupplier在校验失败时生成。</p>
+     *
+     * @param string          指定的参数字符串
+     * @param messageSupplier 生成异常消息的回调，不能为null
+     * @throws IllegalArgumentException 如果字符串为null或者字符串为""
+     */
+    public static void notEmptyLazy(String string, MessageSupplier messageSupplier) {
+        if (string == null || string.length() == 0) {
+            throw new IllegalArgumentException(messageSupplier.getMessage());
+        }
+    }
+
     // notNullElements方法，判断数组中所有元素不为null
     //---------------------------------------------------------------------------------
 
@@ -359,12 +718,9 @@ public class Validate {
     public static void noNullElements(Collection collection, String message) {
         // 先判断集合不为null
         Validate.notNull(collection);
-        // 再循环判断集合中的所有元素不能为null，注意下面的代码使用迭代器，并且使用的是for循环，通常我们遍历迭代器使用的是while循环
-        for (Iterator it = collection.iterator(); it.hasNext(); ) {
-            // 如果集合中存在元素为null，则抛出参数异常并给出指定的提示信息
-            if (it.next() == null) {
-                throw new IllegalArgumentException(message);
-            }
+        // 再判断集合中的所有元素不能为null，如果集合中存在元素为null，则抛出参数异常并给出指定的提示信息
+        if (indexOfInvalid(collection, null) != -1) {
+            throw new IllegalArgumentException(message);
         }
     }
 
@@ -381,13 +737,10 @@ public class Validate {
     public static void noNullElements(Collection collection) {
         // 先校验集合是否为null
         Validate.notNull(collection);
-        // 再校验集合中是否有null元素
-        int i = 0;// 索引，指向集合中每个元素的索引
-        for (Iterator it = collection.iterator(); it.hasNext(); i++) {
-            // 判断集合中是否有元素为null，如果有则抛出异常
-            if (it.next() == null) {
-                throw new IllegalArgumentException("The validated collection contains null element at index: " + i);
-            }
+        // 再校验集合中是否有null元素，如果有则抛出异常，给出第一个null元素的索引
+        int i = indexOfInvalid(collection, null);
+        if (i != -1) {
+            throw new IllegalArgumentException("The validated collection contains null element at index: " + i);
         }
     }
 
@@ -408,11 +761,8 @@ public class Validate {
         // 校验clazz不为null
         Validate.notNull(clazz);
         // 校验集合中的所有元素都应该是clazz类型或其子类型的，否则抛出带有指定消息的异常
-        for (Iterator it = collection.iterator(); it.hasNext(); ) {
-            // clazz.isInstance(Object obj)方法判断clazz和obj是否是同一Class类型的，返回一个布尔值
-            if (clazz.isInstance(it.next()) == false) {
-                throw new IllegalArgumentException(message);
-            }
+        if (indexOfInvalid(collection, clazz) != -1) {
+            throw new IllegalArgumentException(message);
         }
     }
 
@@ -432,14 +782,179 @@ public class Validate {
         Validate.notNull(collection);
         // 接着校验clazz不为null
         Validate.notNull(clazz);
-        // 再循环遍历集合中所有元素，验证每个元素都应该是clazz类型或其子类型
+        // 再遍历集合中所有元素，验证每个元素都应该是clazz类型或其子类型
+        int i = indexOfInvalid(collection, clazz);
+        if (i != -1) {
+            throw new IllegalArgumentException("The validated collection contains an element not of type "
+                    + clazz.getName() + " at index: " + i);
+        }
+    }
+
+    /**
+     * <p>验证参数，如果参数数组为null，或者具有不是clazz类型或其子类型的元素，则抛出IllegalArgumentException异常并给出提示信息</p>
+     * <pre>
+     *     Validate.allElementsOfType(array, String.class, "数组中只能包含字符串");
+     * </pre>
+     *
+     * @param array   待验证的数组
+     * @param clazz   Class类，预计数组中的元素都是该类型
+     * @param message 如果数组中具有非clazz类型的元素，则抛出异常时提示该异常信息
+     * @throws IllegalArgumentException 如果array为null，或者clazz为null，或者数组中有非clazz类型的元素
+     */
+    public static void allElementsOfType(Object[] array, Class clazz, String message) {
+        Validate.notNull(array);
+        Validate.notNull(clazz);
+        if (indexOfInvalid(array, clazz) != -1) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    /**
+     * <p>验证参数，如果参数数组为null，或者具有不是clazz类型或其子类型的元素，则抛出IllegalArgumentException异常并给出提示信息</p>
+     * <pre>
+     *     Validate.allElementsOfType(array, String.class);
+     * </pre>
+     * <p>当发生异常时，抛出带有指定消息的异常："验证的数组在索引处包含一个不是clazz类型的元素："，后面跟着第一个这样的元素的索引。</p>
+     *
+     * @param array 待验证的数组
+     * @param clazz Class类，预计数组中的元素都是该类型
+     * @throws IllegalArgumentException 如果array为null，或者clazz为null，或者数组中有非clazz类型的元素
+     */
+    public static void allElementsOfType(Object[] array, Class clazz) {
+        Validate.notNull(array);
+        Validate.notNull(clazz);
+        int i = indexOfInvalid(array, clazz);
+        if (i != -1) {
+            throw new IllegalArgumentException("The validated array contains an element not of type "
+                    + clazz.getName() + " at index: " + i);
+        }
+    }
+
+    /**
+     * <p>查找集合中第一个不合法的元素的索引：clazz为null时查找null元素，否则查找不是clazz类型的元素（null也不是任何类型的实例）。</p>
+     * <p>实现了{@link RandomAccess}的List（例如ArrayList）使用下标遍历，避免创建迭代器和每次next()时的并发修改检查；其他集合仍然使用迭代器。</p>
+     * <p>类型检查通过{@link #isInstance(Class, Object, Class[])}进行，同一个具体类的元素只需要调用一次{@link Class#isInstance(Object)}。</p>
+     *
+     * @param collection 待检查的集合，不能为null
+     * @param clazz      元素应该属于的类型，null表示只检查元素不为null
+     * @return 第一个不合法的元素的索引，如果都合法则返回-1
+     */
+    static int indexOfInvalid(Collection collection, Class clazz) {
+        Class[] accepted = clazz == null ? null : newClassCache();
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            List list = (List) collection;
+            int size = list.size();
+            for (int i = 0; i < size; i++) {
+                Object element = list.get(i);
+                if (clazz == null ? element == null : !isInstance(clazz, element, accepted)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
         int i = 0;
         for (Iterator it = collection.iterator(); it.hasNext(); i++) {
-            if (clazz.isInstance(it.next()) == false) {
-                throw new IllegalArgumentException("The validated collection contains an element not of type "
-                        + clazz.getName() + " at index: " + i);
+            Object element = it.next();
+            if (clazz == null ? element == null : !isInstance(clazz, element, accepted)) {
+                return i;
             }
         }
+        return -1;
+    }
+
+    /**
+     * 查找数组中第一个不合法的元素的索引，规则同{@link #indexOfInvalid(Collection, Class)}。
+     *
+     * @param array 待检查的数组，不能为null
+     * @param clazz 元素应该属于的类型，null表示只检查元素不为null
+     * @return 第一个不合法的元素的索引，如果都合法则返回-1
+     */
+    static int indexOfInvalid(Object[] array, Class clazz) {
+        Class[] accepted = clazz == null ? null : newClassCache();
+        for (int i = 0; i < array.length; i++) {
+            if (clazz == null ? array[i] == null : !isInstance(clazz, array[i], accepted)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * <p>判断element是否是clazz的实例，null不是任何类型的实例。</p>
+     * <p>accepted按最近使用的顺序缓存了本次校验中已经确认是clazz实例的具体类（element.getClass()）。同一个具体类的所有对象isInstance()的结果都相同，
+     * 所以命中缓存时直接返回true，只需要一次引用比较；未命中时才调用{@link Class#isInstance(Object)}，通过后放到缓存的第一位，最早的类被淘汰。
+     * 对于绝大多数元素都是同一个类的集合，每个元素只需要比较accepted[0]。</p>
+     *
+     * @param clazz    元素应该属于的类型，不能为null
+     * @param element  待检查的元素
+     * @param accepted 已经通过检查的具体类的缓存，调用者为每次校验分配一个新数组
+     * @return 如果element是clazz的实例则返回true
+     */
+    static boolean isInstance(Class clazz, Object element, Class[] accepted) {
+        if (element == null) {
+            return false;
+        }
+        Class type = element.getClass();
+        for (int k = 0; k < accepted.length; k++) {
+            if (accepted[k] == type) {
+                return true;
+            }
+            if (accepted[k] == null) {
+                break;
+            }
+        }
+        if (!clazz.isInstance(element)) {
+            return false;
+        }
+        System.arraycopy(accepted, 0, accepted, 1, accepted.length - 1);
+        accepted[0] = type;
+        return true;
+    }
+
+    /**
+     * 创建{@link #isInstance(Class, Object, Class[])}使用的缓存。
+     *
+     * @return 新的缓存数组
+     */
+    static Class[] newClassCache() {
+        return new Class[CLASS_CACHE_SIZE];
+    }
+
+    /**
+     * 按{@link String#format(String, Object[])}格式化异常消息，只在校验失败时调用。
+     * 如果消息模板格式不正确（例如包含单独的"%"），则把参数用", "连接在消息后面，保证调用者仍然得到IllegalArgumentException，而不是格式化异常。
+     *
+     * @param message 消息模板，可能为null
+     * @param values  参数
+     * @return 格式化后的消息
+     */
+    private static String format(String message, Object[] values) {
+        try {
+            return String.format(String.valueOf(message), values);
+        } catch (IllegalFormatException e) {
+            StringBuffer buffer = new StringBuffer(String.valueOf(message));
+            for (int i = 0; i < values.length; i++) {
+                buffer.append(i == 0 ? " " : ", ").append(values[i]);
+            }
+            return buffer.toString();
+        }
+    }
+
+    /**
+     * <p>延迟生成异常消息的回调接口。</p>
+     * <p>校验通过时不会调用{@link #getMessage()}，所以可以把拼接字符串等开销较大的操作放在该方法中，只在校验失败时才执行。</p>
+     * <p>接收该接口的方法都以Lazy结尾，例如{@link Validate#notNullLazy(Object, MessageSupplier)}，而不是与接收String消息的方法同名，
+     * 否则已有的<code>Validate.notNull(object, null)</code>这样的调用会因为无法确定重载方法而编译失败。</p>
+     */
+    public interface MessageSupplier {
+
+        /**
+         * 生成异常消息。
+         *
+         * @return 异常消息
+         */
+        String getMessage();
+
     }
 
 }
@@ -0,0 +1,418 @@
+package org.apache.commons.lang;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * <p>累积式的参数校验器，一次校验记录所有的失败，最后只抛出一次异常。</p>
+ * <p>{@link Validate}在第一个校验失败时就抛出异常，校验一个包含很多字段的请求对象时，客户端每次只能知道一个错误，需要反复修改、提交。
+ * 该类提供与Validate相同的校验规则，但校验失败时只把消息记录下来，全部校验完成后调用{@link #throwIfFailed()}，
+ * 如果有失败则抛出一个包含所有失败消息的{@link ValidationFailedException}：</p>
+ * <pre>
+ *     ValidationContext context = new ValidationContext();
+ *     context.notEmpty(request.getName(), "name is required")
+ *            .notNull(request.getEmail(), "email is required")
+ *            .isTrue(request.getAge() >= 0, "age must not be negative: ", request.getAge())
+ *            .throwIfFailed();
+ * </pre>
+ * <p>校验通过时不创建任何对象。失败消息保存在内部的数组中，调用{@link #reset()}后可以复用同一个实例和它已经分配的数组，
+ * 例如每个线程持有一个实例来校验它处理的每个请求。</p>
+ * <p>非线程安全</p>
+ *
+ * @author lcl100
+ * @create 2026-10-18 22:40
+ */
+public class ValidationContext {
+
+    /**
+     * 常量，未指定初始容量时失败消息数组的默认容量
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * 存放失败消息的数组，reset()后复用
+     */
+    private String[] failures;
+    /**
+     * 失败消息的条数
+     */
+    private int size;
+
+    /**
+     * 构造方法，使用默认容量。
+     */
+    public ValidationContext() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 构造方法，使用指定的初始容量，如果预先知道最多会有多少条失败消息，指定初始容量可以避免扩容。
+     *
+     * @param initialCapacity 初始容量
+     * @throws IllegalArgumentException 如果initialCapacity小于0
+     */
+    public ValidationContext(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity must not be negative: " + initialCapacity);
+        }
+        failures = new String[initialCapacity];
+    }
+
+    // isTrue
+    //-----------------------------------------------------------------------
+
+    /**
+     * 校验表达式为true，否则记录失败消息。
+     *
+     * @param expression 待校验的布尔表达式
+     * @param message    失败消息
+     * @return 当前校验器，便于链式调用
+     */
+    public ValidationContext isTrue(boolean expression, String message) {
+        if (expression == false) {
+            fail(message);
+        }
+        return this;
+    }
+
+    /**
+     * 校验表达式为true，否则记录失败消息，失败消息为message加上value，只在失败时才拼接，与{@link Validate#isTrue(boolean, String, Object)}相同。
+     *
+     * @param expression 待校验的布尔表达式
+     * @param message    失败消息
+     * @param value      失败时附加到消息的值
+     * @return 当前校验器，便于链式调用
+     */
+    public ValidationContext isTrue(boolean expression, String message, Object value) {
+        if (expression == false) {
+            fail(message + value);
+        }
+        return this;
+    }
+
+    /**
+     * 校验表达式为true，否则记录失败消息，失败消息为message加上value，只在失败时才拼接。
+     *
+     * @param expression 待校验的布尔表达式
+     * @param message    失败消息
+     * @param value      失败时附加到消息的值
+     * @return 当前校验器，便于链式调用
+     */
+    public ValidationContext isTrue(boolean expression, String message, long value) {
+        if (expression == false) {
+            fail(message + value);
+        }
+        return this;
+    }
+
+    /**
+     * 校验表达式为true，否则记录失败消息，失败消息为message加上value，只在失败时才拼接。
+     *
+     * @param expression 待校验的布尔表达式
+     * @param message    失败消息
+     * @param value      失败时附加到消息的值
+     * @return 当前校验器，便于链式调用
+     */
+    public ValidationContext isTrue(boolean expression, String message, double value) {
+        if (expression == false) {
+            fail(message + value);
+        }
+        return this;
+    }
+
+    // notNull
+    //-----------------------------------------------------------------------
+
+    /**
+     * 校验对象不为null，否则记录失败消息。
+     *
+     * @param object  待校验的对象
+     * @param message 失败消息
+     * @return 当前校验器，便于链式调用
+     */
+    public ValidationContext notNull(Object object, String message) {
+        if (object == null) {
+            fail(message);
+        }
+        return this;
+    }
+
+    // notEmpty
+    //-----------------------------------------------------------------------
+
+    /**
+     * 校验数组既不为null，也不是长度为零，否则记录失败消息。
+     *
+     * @param array   待校验的数组
+     * @param message 失败消息
+     * @return 当前校验器，便于链式调用
+     */
+    public ValidationContext notEmpty(Object[] array, String message) {
+        if (array == null || array.length == 0) {
+            fail(message);
+        }
+        return this;
+    }
+
+    /**
+     * 校验集合既不为null，也不是空集合，否则记录失败消息。
+     *
+     * @param collection 待校验的集合
+     * @param message    失败消息
+     * @return 当前校验器，便于链式调用
+     */
+    public ValidationContext notEmpty(Collection collection, String message) {
+        if (collection == null || collection.size() == 0) {
+            fail(message);
+        }
+        return this;
+    }
+
+    /**
+     * 校验Map集合既不为null，也不是空集合，否则记录失败消息。
+     *
+     * @param map     待校验的Map集合
+     * @param message 失败消息
+     * @return 当前校验器，便于链式调用
+     */
+    public ValidationContext notEmpty(Map map, String message) {
+        if (map == null || map.size() == 0) {
+            fail(message);
+        }
+        return this;
+    }
+
+    /**
+     * 校验字符串既不为null，也不是空字符串""，否则记录失败消息。
+     *
+     * @param string  待校验的字符串
+     * @param message 失败消息
+     * @return 当前校验器，便于链式调用
+     */
+    public ValidationContext notEmpty(String string, String message) {
+        if (string == null || string.length() == 0) {
+            fail(message);
+        }
+        return this;
+    }
+
+    // noNullElements
+    //-----------------------------------------------------------------------
+
+    /**
+     * 校验数组不为null并且不包含null元素，否则记录失败消息。
+     *
+     * @param array   待校验的数组
+     * @param message 失败消息
+     * @return 当前校验器，便于链式调用
+     */
+    public ValidationContext noNullElements(Object[] array, String message) {
+        if (array == null || Validate.indexOfInvalid(array, null) != -1) {
+            fail(message);
+        }
+        return this;
+    }
+
+    /**
+     * 校验集合不为null并且不包含null元素，否则记录失败消息。
+     *
+     * @param collection 待校验的集合
+     * @param message    失败消息
+     * @return 当前校验器，便于链式调用
+     */
+    public ValidationContext noNullElements(Collection collection, String message) {
+        if (collection == null || Validate.indexOfInvalid(collection, null) != -1) {
+            fail(message);
+        }
+        return this;
+    }
+
+    /**
+     * 校验数组不为null并且不包含null元素，否则记录失败消息，失败消息与{@link Validate#noNullElements(Object[])}相同，包含第一个null元素的索引。
+     *
+     * @param array 待校验的数组
+     * @return 当前校验器，便于链式调用
+     */
+    public ValidationContext noNullElements(Object[] array) {
+        if (array == null) {
+            return fail("The validated object is null");
+        }
+        int i = Validate.indexOfInvalid(array, null);
+        if (i != -1) {
+            fail("The validated array contains null element at index: " + i);
+        }
+        return this;
+    }
+
+    /**
+     * 校验集合不为null并且不包含null元素，否则记录失败消息，失败消息与{@link Validate#noNullElements(Collection)}相同，包含第一个null元素的索引。
+     *
+     * @param collection 待校验的集合
+     * @return 当前校验器，便于链式调用
+     */
+    public ValidationContext noNullElements(Collection collection) {
+        if (collection == null) {
+            return fail("The validated object is null");
+        }
+        int i = Validate.indexOfInvalid(collection, null);
+        if (i != -1) {
+            fail("The validated collection contains null element at index: " + i);
+        }
+        return this;
+    }
+
+    // allElementsOfType
+    //-----------------------------------------------------------------------
+
+    /**
+     * 校验集合不为null并且所有元素都是clazz类型或其子类型，否则记录失败消息。
+     *
+     * @param collection 待校验的集合
+     * @param clazz      元素应该属于的类型，不能为null
+     * @param message    失败消息
+     * @return 当前校验器，便于链式调用
+     * @throws IllegalArgumentException 如果clazz为null，这属于调用者的编程错误，所以直接抛出而不是记录
+     */
+    public ValidationContext allElementsOfType(Collection collection, Class clazz, String message) {
+        Validate.notNull(clazz);
+        if (collection == null || Validate.indexOfInvalid(collection, clazz) != -1) {
+            fail(message);
+        }
+        return this;
+    }
+
+    /**
+     * 校验数组不为null并且所有元素都是clazz类型或其子类型，否则记录失败消息。
+     *
+     * @param array   待校验的数组
+     * @param clazz   元素应该属于的类型，不能为null
+     * @param message 失败消息
+     * @return 当前校验器，便于链式调用
+     * @throws IllegalArgumentException 如果clazz为null，这属于调用者的编程错误，所以直接抛出而不是记录
+     */
+    public ValidationContext allElementsOfType(Object[] array, Class clazz, String message) {
+        Validate.notNull(clazz);
+        if (array == null || Validate.indexOfInvalid(array, clazz) != -1) {
+            fail(message);
+        }
+        return this;
+    }
+
+    /**
+     * 校验集合不为null并且所有元素都是clazz类型或其子类型，否则记录失败消息，
+     * 失败消息与{@link Validate#allElementsOfType(Collection, Class)}相同，包含第一个不是clazz类型的元素的索引。
+     *
+     * @param collection 待校验的集合
+     * @param clazz      元素应该属于的类型，不能为null
+     * @return 当前校验器，便于链式调用
+     * @throws IllegalArgumentException 如果clazz为null
+     */
+    public ValidationContext allElementsOfType(Collection collection, Class clazz) {
+        Validate.notNull(clazz);
+        if (collection == null) {
+            return fail("The validated object is null");
+        }
+        int i = Validate.indexOfInvalid(collection, clazz);
+        if (i != -1) {
+            fail("The validated collection contains an element not of type " + clazz.getName() + " at index: " + i);
+        }
+        return this;
+    }
+
+    /**
+     * 校验数组不为null并且所有元素都是clazz类型或其子类型，否则记录失败消息，
+     * 失败消息与{@link Validate#allElementsOfType(Object[], Class)}相同，包含第一个不是clazz类型的元素的索引。
+     *
+     * @param array 待校验的数组
+     * @param clazz 元素应该属于的类型，不能为null
+     * @return 当前校验器，便于链式调用
+     * @throws IllegalArgumentException 如果clazz为null
+     */
+    public ValidationContext allElementsOfType(Object[] array, Class clazz) {
+        Validate.notNull(clazz);
+        if (array == null) {
+            return fail("The validated object is null");
+        }
+        int i = Validate.indexOfInvalid(array, clazz);
+        if (i != -1) {
+            fail("The validated array contains an element not of type " + clazz.getName() + " at index: " + i);
+        }
+        return this;
+    }
+
+    // 结果
+    //-----------------------------------------------------------------------
+
+    /**
+     * 直接记录一条失败消息，用于Validate没有提供的自定义校验。
+     *
+     * @param message 失败消息
+     * @return 当前校验器，便于链式调用
+     */
+    public ValidationContext fail(String message) {
+        if (size == failures.length) {
+            String[] newFailures = new String[Math.max(DEFAULT_CAPACITY, size + (size >> 1))];
+            System.arraycopy(failures, 0, newFailures, 0, size);
+            failures = newFailures;
+        }
+        failures[size++] = message;
+        return this;
+    }
+
+    /**
+     * 判断是否有校验失败。
+     *
+     * @return 如果至少有一条失败消息则返回true
+     */
+    public boolean hasFailures() {
+        return size > 0;
+    }
+
+    /**
+     * 获取失败消息的条数。
+     *
+     * @return 失败消息的条数
+     */
+    public int getFailureCount() {
+        return size;
+    }
+
+    /**
+     * 获取所有的失败消息，按记录的先后顺序排列。
+     *
+     * @return 失败消息数组的副本，如果没有失败则返回{@link ArrayUtils#EMPTY_STRING_ARRAY}
+     */
+    public String[] getFailures() {
+        if (size == 0) {
+            return ArrayUtils.EMPTY_STRING_ARRAY;
+        }
+        String[] result = new String[size];
+        System.arraycopy(failures, 0, result, 0, size);
+        return result;
+    }
+
+    /**
+     * 如果有校验失败，则抛出包含所有失败消息的异常。
+     *
+     * @throws ValidationFailedException 如果至少有一条失败消息
+     */
+    public void throwIfFailed() {
+        if (size > 0) {
+            throw new ValidationFailedException(getFailures());
+        }
+    }
+
+    /**
+     * 清空所有的失败消息，保留已分配的数组以便复用。
+     *
+     * @return 当前校验器，便于链式调用
+     */
+    public ValidationContext reset() {
+        for (int i = 0; i < size; i++) {
+            failures[i] = null;
+        }
+        size = 0;
+        return this;
+    }
+
+}
@@ -0,0 +1,68 @@
+package org.apache.commons.lang;
+
+/**
+ * <p>{@link ValidationContext#throwIfFailed()}抛出的异常，包含了一次校验中记录的所有失败消息。</p>
+ * <p>异常消息是所有失败消息用"; "连接起来的结果，也可以通过{@link #getFailures()}逐条获取。
+ * 该类是{@link IllegalArgumentException}的子类，所以捕获IllegalArgumentException的已有代码不需要修改。</p>
+ *
+ * @author lcl100
+ * @create 2026-10-18 22:30
+ */
+public class ValidationFailedException extends IllegalArgumentException {
+
+    /**
+     * 序列化版本号
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 所有的失败消息
+     */
+    private final String[] failures;
+
+    /**
+     * 构造方法。
+     *
+     * @param failures 所有的失败消息，不能为null，调用者不应再修改该数组
+     */
+    public ValidationFailedException(String[] failures) {
+        super(join(failures));
+        this.failures = failures;
+    }
+
+    /**
+     * 获取所有的失败消息，按记录的先后顺序排列。
+     *
+     * @return 失败消息数组的副本
+     */
+    public String[] getFailures() {
+        return failures.clone();
+    }
+
+    /**
+     * 获取失败消息的条数。
+     *
+     * @return 失败消息的条数
+     */
+    public int getFailureCount() {
+        return failures.length;
+    }
+
+    /**
+     * 将所有的失败消息用"; "连接起来。
+     *
+     * @param failures 失败消息
+     * @return 连接后的消息
+     */
+    private static String join(String[] failures) {
+        StringBuffer buffer = new StringBuffer(failures.length * 32);
+        for (int i = 0; i < failures.length; i++) {
+            if (i > 0) {
+                buffer.append("; ");
+            }
+            buffer.append(failures[i]);
+        }
+        return buffer.toString();
+    }
+
+}
@@ -0,0 +1,543 @@
+package org.apache.commons.lang;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * <p>预先编译好的校验计划，用于对同一类型的每个对象（例如每个请求DTO）重复执行同一组校验。</p>
+ * <p>对每个对象分别调用{@link Validate#notNull(Object, String)}、{@link Validate#notEmpty(Map, String)}等方法时，
+ * 每次都要重新读取字段、根据参数类型分派到不同的重载方法。校验计划在创建时一次性完成这些工作：</p>
+ * <ul>
+ *     <li>按字段名查找{@link Field}（包括父类中声明的字段），通过{@link MethodHandles.Lookup#unreflectGetter(Field)}得到读取字段的MethodHandle</li>
+ *     <li>根据字段的声明类型为每个校验选择一个具体的检查方法，例如String字段的notEmpty只检查length()，并把失败消息绑定为常量</li>
+ *     <li>用{@link MethodHandles#foldArguments(MethodHandle, MethodHandle)}和{@link MethodHandles#guardWithTest(MethodHandle, MethodHandle, MethodHandle)}
+ *     把所有的检查串成一个MethodHandle：执行一个检查，通过则继续执行下一个，失败则直接返回失败消息</li>
+ *     <li>字段类型不支持某个校验时在创建时就抛出异常，而不是等到执行时</li>
+ * </ul>
+ * <p>执行时只是依次读取字段并比较，校验通过时不创建任何对象：</p>
+ * <pre>
+ *     private static final ValidationPlan PLAN = ValidationPlan.builder(OrderRequest.class)
+ *             .notNull("customerId", "customerId is required")
+ *             .notEmpty("items")
+ *             .noNullElements("items")
+ *             .notEmpty("attributes", "attributes must not be empty")
+ *             .build();
+ *
+ *     PLAN.validate(request);                              // 第一个失败时抛出IllegalArgumentException
+ *     PLAN.validate(request, context).throwIfFailed();     // 收集所有失败
+ * </pre>
+ * <p>JIT只有在MethodHandle本身是常量时才能把整条链内联到调用处。最热的调用处可以把{@link #toMethodHandle()}的结果保存到自己的静态常量中直接调用：</p>
+ * <pre>
+ *     private static final MethodHandle CHECK = PLAN.toMethodHandle();
+ *
+ *     String failure = (String) CHECK.invokeExact((Object) request);
+ * </pre>
+ * <p>线程安全，校验计划创建后是不可变的，可以保存在静态常量中在多个线程之间共享。</p>
+ *
+ * @author lcl100
+ * @create 2026-10-18 23:30
+ */
+public final class ValidationPlan {
+
+    /**
+     * 操作码，字段不为null
+     */
+    private static final int NOT_NULL = 0;
+    /**
+     * 操作码，String字段不为空
+     */
+    private static final int NOT_EMPTY_STRING = 1;
+    /**
+     * 操作码，Collection字段不为空
+     */
+    private static final int NOT_EMPTY_COLLECTION = 2;
+    /**
+     * 操作码，Map字段不为空
+     */
+    private static final int NOT_EMPTY_MAP = 3;
+    /**
+     * 操作码，数组字段不为空
+     */
+    private static final int NOT_EMPTY_ARRAY = 4;
+    /**
+     * 操作码，Collection字段不为null并且不包含null元素
+     */
+    private static final int NO_NULL_ELEMENTS_COLLECTION = 5;
+    /**
+     * 操作码，数组字段不为null并且不包含null元素
+     */
+    private static final int NO_NULL_ELEMENTS_ARRAY = 6;
+
+    /**
+     * 用于查找本类中的检查方法，以及读取已经设置为可访问的字段
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * 每个操作码对应的检查方法，类型为(值, 失败消息, 字段名)String，通过时返回null，下标为操作码
+     */
+    private static final MethodHandle[] CHECKS = new MethodHandle[]{
+            findCheck("checkNotNull", Object.class),
+            findCheck("checkNotEmpty", String.class),
+            findCheck("checkNotEmpty", Collection.class),
+            findCheck("checkNotEmpty", Map.class),
+            findCheck("checkNotEmpty", Object[].class),
+            findCheck("checkNoNullElements", Collection.class),
+            findCheck("checkNoNullElements", Object[].class)
+    };
+
+    /**
+     * 判断前一个检查是否通过，类型为(String)boolean
+     */
+    private static final MethodHandle PASSED = findStatic("passed",
+            MethodType.methodType(boolean.class, String.class));
+
+    /**
+     * 类型为(Object)String的MethodHandle的类型
+     */
+    private static final MethodType CHECK_TYPE = MethodType.methodType(String.class, Object.class);
+
+    /**
+     * 被校验对象的类型
+     */
+    private final Class type;
+    /**
+     * 每个校验编译成的(Object)String，通过时返回null，用于收集所有失败
+     */
+    private final MethodHandle[] checks;
+    /**
+     * 所有的校验串成的(Object)String，返回第一个失败消息，都通过时返回null
+     */
+    private final MethodHandle firstFailure;
+
+    /**
+     * 构造方法，由{@link Builder#build()}调用。
+     *
+     * @param type   被校验对象的类型
+     * @param checks 每个校验编译成的MethodHandle
+     */
+    private ValidationPlan(Class type, MethodHandle[] checks) {
+        this.type = type;
+        this.checks = checks;
+        this.firstFailure = chain(checks);
+    }
+
+    /**
+     * 创建校验计划的构建器。
+     *
+     * @param type 被校验对象的类型，不能为null
+     * @return 构建器
+     * @throws IllegalArgumentException 如果type为null
+     */
+    public static Builder builder(Class type) {
+        Validate.notNull(type, "The type must not be null");
+        return new Builder(type);
+    }
+
+    /**
+     * 获取校验的个数。
+     *
+     * @return 校验的个数
+     */
+    public int size() {
+        return checks.length;
+    }
+
+    /**
+     * <p>获取编译好的MethodHandle，类型为(Object)String：按声明的顺序执行所有校验，返回第一个失败消息，都通过时返回null。</p>
+     * <p>该MethodHandle不检查参数是否为计划指定的类型，类型不匹配时抛出ClassCastException，参数为null时抛出NullPointerException。</p>
+     *
+     * @return 编译好的MethodHandle
+     */
+    public MethodHandle toMethodHandle() {
+        return firstFailure;
+    }
+
+    /**
+     * <p>按声明的顺序执行所有校验，在第一个失败时抛出异常，与依次调用Validate中对应的方法效果相同。</p>
+     *
+     * @param target 被校验的对象，不能为null，必须是创建计划时指定的类型
+     * @throws IllegalArgumentException 如果target为null、类型不匹配或者有校验失败
+     */
+    public void validate(Object target) {
+        checkTarget(target);
+        String failure = invoke(firstFailure, target);
+        if (failure != null) {
+            throw new IllegalArgumentException(failure);
+        }
+    }
+
+    /**
+     * <p>执行所有校验，把每个失败都记录到context中而不抛出异常。</p>
+     *
+     * @param target  被校验的对象，不能为null，必须是创建计划时指定的类型
+     * @param context 记录失败的校验器，不能为null
+     * @return context，便于链式调用{@link ValidationContext#throwIfFailed()}
+     * @throws IllegalArgumentException 如果target为null或者类型不匹配
+     */
+    public ValidationContext validate(Object target, ValidationContext context) {
+        checkTarget(target);
+        for (int i = 0; i < checks.length; i++) {
+            String failure = invoke(checks[i], target);
+            if (failure != null) {
+                context.fail(failure);
+            }
+        }
+        return context;
+    }
+
+    /**
+     * 检查被校验的对象不为null并且是计划指定的类型。
+     *
+     * @param target 被校验的对象
+     * @throws IllegalArgumentException 如果target为null或者类型不匹配
+     */
+    private void checkTarget(Object target) {
+        if (type.isInstance(target) == false) {
+            throw new IllegalArgumentException("The validated object is not an instance of " + type.getName()
+                    + ": " + target);
+        }
+    }
+
+    /**
+     * 调用类型为(Object)String的MethodHandle。检查方法不会抛出受检异常，所以只需要原样抛出运行时异常和错误。
+     *
+     * @param handle MethodHandle
+     * @param target 参数
+     * @return MethodHandle的返回值
+     */
+    private static String invoke(MethodHandle handle, Object target) {
+        try {
+            return (String) handle.invokeExact(target);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Unexpected checked exception: " + t);
+        }
+    }
+
+    /**
+     * <p>把所有的校验从后向前串成一个(Object)String：</p>
+     * <pre>
+     *     chain(target) = (failure = checks[i](target)) == null ? rest(target) : failure
+     * </pre>
+     *
+     * @param checks 每个校验编译成的MethodHandle
+     * @return 串起来的MethodHandle
+     */
+    private static MethodHandle chain(MethodHandle[] checks) {
+        MethodHandle rest = MethodHandles.dropArguments(MethodHandles.constant(String.class, null), 0, Object.class);
+        MethodHandle returnFailure = MethodHandles.dropArguments(MethodHandles.identity(String.class), 1, Object.class);
+        for (int i = checks.length - 1; i >= 0; i--) {
+            // (failure, target)String：前一个校验通过则执行后面的校验，否则返回它的失败消息
+            MethodHandle next = MethodHandles.guardWithTest(PASSED,
+                    MethodHandles.dropArguments(rest, 0, String.class), returnFailure);
+            rest = MethodHandles.foldArguments(next, checks[i]);
+        }
+        return rest;
+    }
+
+    /**
+     * 把一个校验编译成(Object)String：读取字段，转换成检查方法的参数类型，再调用绑定了失败消息和字段名的检查方法。
+     *
+     * @param op      操作码
+     * @param field   字段，已经设置为可访问
+     * @param message 失败消息，可能为null
+     * @return 编译好的MethodHandle
+     */
+    private static MethodHandle compile(int op, Field field, String message) {
+        MethodHandle getter;
+        try {
+            getter = LOOKUP.unreflectGetter(field);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access field " + field.getName() + ": " + e.getMessage());
+        }
+        MethodHandle check = MethodHandles.insertArguments(CHECKS[op], 1, new Object[]{message, field.getName()});
+        getter = getter.asType(getter.type().changeReturnType(check.type().parameterType(0)));
+        return MethodHandles.filterReturnValue(getter, check).asType(CHECK_TYPE);
+    }
+
+    /**
+     * 查找本类中的检查方法，类型为(valueType, String, String)String。
+     *
+     * @param name      方法名
+     * @param valueType 值的类型
+     * @return MethodHandle
+     */
+    private static MethodHandle findCheck(String name, Class valueType) {
+        return findStatic(name, MethodType.methodType(String.class, valueType, String.class, String.class));
+    }
+
+    /**
+     * 查找本类中的静态方法。
+     *
+     * @param name 方法名
+     * @param type 方法类型
+     * @return MethodHandle
+     */
+    private static MethodHandle findStatic(String name, MethodType type) {
+        try {
+            return LOOKUP.findStatic(ValidationPlan.class, name, type);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e.toString());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e.toString());
+        }
+    }
+
+    // 检查方法，通过时返回null，否则返回失败消息
+    //-----------------------------------------------------------------------
+
+    private static boolean passed(String failure) {
+        return failure == null;
+    }
+
+    private static String checkNotNull(Object value, String message, String fieldName) {
+        return value == null ? message : null;
+    }
+
+    private static String checkNotEmpty(String value, String message, String fieldName) {
+        return value == null || value.length() == 0 ? message : null;
+    }
+
+    private static String checkNotEmpty(Collection value, String message, String fieldName) {
+        return value == null || value.size() == 0 ? message : null;
+    }
+
+    private static String checkNotEmpty(Map value, String message, String fieldName) {
+        return value == null || value.size() == 0 ? message : null;
+    }
+
+    private static String checkNotEmpty(Object[] value, String message, String fieldName) {
+        return value == null || value.length == 0 ? message : null;
+    }
+
+    private static String checkNoNullElements(Collection value, String message, String fieldName) {
+        if (value == null) {
+            return nullMessage(message, fieldName);
+        }
+        return elementMessage(message, fieldName, Validate.indexOfInvalid(value, null));
+    }
+
+    private static String checkNoNullElements(Object[] value, String message, String fieldName) {
+        if (value == null) {
+            return nullMessage(message, fieldName);
+        }
+        return elementMessage(message, fieldName, Validate.indexOfInvalid(value, null));
+    }
+
+    /**
+     * noNullElements校验的字段本身为null时的失败消息。
+     *
+     * @param message   指定的失败消息，null表示使用默认消息
+     * @param fieldName 字段名
+     * @return 失败消息
+     */
+    private static String nullMessage(String message, String fieldName) {
+        return message != null ? message : "The validated field '" + fieldName + "' is null";
+    }
+
+    /**
+     * noNullElements校验发现null元素时的失败消息，使用默认消息时附加第一个null元素的索引。
+     *
+     * @param message   指定的失败消息，null表示使用默认消息
+     * @param fieldName 字段名
+     * @param index     第一个null元素的索引，-1表示没有null元素
+     * @return 失败消息，如果没有null元素则返回null
+     */
+    private static String elementMessage(String message, String fieldName, int index) {
+        if (index == -1) {
+            return null;
+        }
+        return message != null ? message
+                : "The validated field '" + fieldName + "' contains null element at index: " + index;
+    }
+
+    /**
+     * <p>校验计划的构建器，按调用的顺序声明字段和校验，最后调用{@link #build()}编译成校验计划。</p>
+     * <p>非线程安全</p>
+     */
+    public static final class Builder {
+        private final Class type;
+        /**
+         * 每个校验的操作码
+         */
+        private final IntArrayBuilder ops = new IntArrayBuilder();
+        /**
+         * 每个校验读取的字段，前ops.size()个有效
+         */
+        private Field[] fields = new Field[8];
+        /**
+         * 每个校验的失败消息，前ops.size()个有效；noNullElements使用默认消息时为null，失败时再拼接出元素的索引
+         */
+        private String[] messages = new String[8];
+
+        private Builder(Class type) {
+            this.type = type;
+        }
+
+        /**
+         * 声明字段不能为null，使用默认的失败消息。
+         *
+         * @param fieldName 字段名
+         * @return 当前构建器
+         * @throws IllegalArgumentException 如果找不到该字段，或者字段是基本类型
+         */
+        public Builder notNull(String fieldName) {
+            return notNull(fieldName, "The validated field '" + fieldName + "' is null");
+        }
+
+        /**
+         * 声明字段不能为null。
+         *
+         * @param fieldName 字段名
+         * @param message   失败消息
+         * @return 当前构建器
+         * @throws IllegalArgumentException 如果找不到该字段，或者字段是基本类型
+         */
+        public Builder notNull(String fieldName, String message) {
+            Field field = findField(fieldName);
+            if (field.getType().isPrimitive()) {
+                throw new IllegalArgumentException("Field " + fieldName + " of primitive type "
+                        + field.getType().getName() + " does not support notNull");
+            }
+            return add(NOT_NULL, field, message);
+        }
+
+        /**
+         * 声明字段不能为空，使用默认的失败消息。
+         *
+         * @param fieldName 字段名
+         * @return 当前构建器
+         * @throws IllegalArgumentException 如果找不到该字段，或者字段类型不是String、Collection、Map或对象数组
+         */
+        public Builder notEmpty(String fieldName) {
+            return notEmpty(fieldName, "The validated field '" + fieldName + "' is empty");
+        }
+
+        /**
+         * 声明字段不能为空，根据字段的声明类型编译成对应的检查，规则与{@link Validate}中对应的notEmpty方法相同。
+         *
+         * @param fieldName 字段名
+         * @param message   失败消息
+         * @return 当前构建器
+         * @throws IllegalArgumentException 如果找不到该字段，或者字段类型不是String、Collection、Map或对象数组
+         */
+        public Builder notEmpty(String fieldName, String message) {
+            Field field = findField(fieldName);
+            Class fieldType = field.getType();
+            int op;
+            if (fieldType == String.class) {
+                op = NOT_EMPTY_STRING;
+            } else if (Collection.class.isAssignableFrom(fieldType)) {
+                op = NOT_EMPTY_COLLECTION;
+            } else if (Map.class.isAssignableFrom(fieldType)) {
+                op = NOT_EMPTY_MAP;
+            } else if (Object[].class.isAssignableFrom(fieldType)) {
+                op = NOT_EMPTY_ARRAY;
+            } else {
+                throw new IllegalArgumentException("Field " + fieldName + " of type " + fieldType.getName()
+                        + " does not support notEmpty");
+            }
+            return add(op, field, message);
+        }
+
+        /**
+         * 声明字段不能为null并且不能包含null元素，使用默认的失败消息，其中包含第一个null元素的索引。
+         *
+         * @param fieldName 字段名
+         * @return 当前构建器
+         * @throws IllegalArgumentException 如果找不到该字段，或者字段类型不是Collection或对象数组
+         */
+        public Builder noNullElements(String fieldName) {
+            return noNullElements(fieldName, null);
+        }
+
+        /**
+         * 声明字段不能为null并且不能包含null元素。
+         *
+         * @param fieldName 字段名
+         * @param message   失败消息，null表示使用默认的失败消息
+         * @return 当前构建器
+         * @throws IllegalArgumentException 如果找不到该字段，或者字段类型不是Collection或对象数组
+         */
+        public Builder noNullElements(String fieldName, String message) {
+            Field field = findField(fieldName);
+            Class fieldType = field.getType();
+            int op;
+            if (Collection.class.isAssignableFrom(fieldType)) {
+                op = NO_NULL_ELEMENTS_COLLECTION;
+            } else if (Object[].class.isAssignableFrom(fieldType)) {
+                op = NO_NULL_ELEMENTS_ARRAY;
+            } else {
+                throw new IllegalArgumentException("Field " + fieldName + " of type " + fieldType.getName()
+                        + " does not support noNullElements");
+            }
+            return add(op, field, message);
+        }
+
+        /**
+         * 将所有声明的校验编译成校验计划，之后可以继续使用该构建器声明更多的校验并编译成新的计划。
+         *
+         * @return 校验计划
+         */
+        public ValidationPlan build() {
+            MethodHandle[] checks = new MethodHandle[ops.size()];
+            for (int i = 0; i < checks.length; i++) {
+                checks[i] = compile(ops.get(i), fields[i], messages[i]);
+            }
+            return new ValidationPlan(type, checks);
+        }
+
+        private Builder add(int op, Field field, String message) {
+            int size = ops.size();
+            if (size == fields.length) {
+                fields = Arrays.copyOf(fields, size << 1);
+                messages = Arrays.copyOf(messages, size << 1);
+            }
+            fields[size] = field;
+            messages[size] = message;
+            ops.add(op);
+            return this;
+        }
+
+        /**
+         * 在type及其父类中查找实例字段并设置为可访问。
+         *
+         * @param fieldName 字段名
+         * @return 字段
+         * @throws IllegalArgumentException 如果找不到该字段、字段是静态字段或者无法访问
+         */
+        private Field findField(String fieldName) {
+            Validate.notNull(fieldName, "The field name must not be null");
+            for (Class c = type; c != null; c = c.getSuperclass()) {
+                Field field;
+                try {
+                    field = c.getDeclaredField(fieldName);
+                } catch (NoSuchFieldException e) {
+                    continue;
+                }
+                if (Modifier.isStatic(field.getModifiers())) {
+                    throw new IllegalArgumentException("Field " + fieldName + " of " + type.getName() + " is static");
+                }
+                try {
+                    field.setAccessible(true);
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException("Cannot access field " + fieldName + " of "
+                            + type.getName() + ": " + e.getMessage());
+                }
+                return field;
+            }
+            throw new IllegalArgumentException("No field " + fieldName + " in " + type.getName());
+        }
+    }
+
+}